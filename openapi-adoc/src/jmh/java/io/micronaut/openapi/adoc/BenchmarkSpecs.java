@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.adoc;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.tags.Tag;
+
+/**
+ * Synthetic inputs for benchmarks.
+ */
+public final class BenchmarkSpecs {
+
+    /**
+     * Markdown text with headers, lists, tables, code blocks and links.
+     */
+    public static final String MARKDOWN = """
+        # Pet store
+
+        This is a **sample** server with _markdown_ description, `inline code` and [link](https://example.com).
+
+        ## Features
+
+        * First item
+        * Second item with **bold** text
+          * Nested item
+          * Another nested item
+        * Third item
+
+        1. Ordered one
+        2. Ordered two
+        3. Ordered three
+
+        | Name | Type | Description |
+        |------|------|-------------|
+        | id | integer | Identifier of the pet |
+        | name | string | Name of the pet |
+        | status | string | Status in the store: `available`, `pending` or `sold` |
+
+        Example request:
+
+        ```json
+        {
+          "id": 10,
+          "name": "doggie",
+          "status": "available"
+        }
+        ```
+
+        > Note: quoted block with *emphasis*.
+
+        Last paragraph with a hard line break
+        and some text after it.
+        """;
+
+    /**
+     * Spec sizes: number of tags, operations per tag and schemas.
+     */
+    public static final Map<String, int[]> SIZES = Map.of(
+        "small", new int[] {2, 3, 5},
+        "medium", new int[] {10, 10, 100},
+        "huge", new int[] {50, 20, 1000}
+    );
+
+    private BenchmarkSpecs() {
+    }
+
+    /**
+     * Create OpenAPI object of given size.
+     *
+     * @param size one of {@link #SIZES} keys
+     *
+     * @return OpenAPI object
+     */
+    public static OpenAPI openApi(String size) {
+        var dims = SIZES.get(size);
+        int tagCount = dims[0];
+        int opsPerTag = dims[1];
+        int schemaCount = dims[2];
+
+        var schemas = new LinkedHashMap<String, Schema>();
+        for (int i = 0; i < schemaCount; i++) {
+            var schema = new ObjectSchema()
+                .description("Model " + i + " with **markdown** description.\n\n* one\n* two")
+                .addProperty("id", new IntegerSchema().format("int64").description("Identifier"))
+                .addProperty("name", new StringSchema().description("Name of the `model`").example("name" + i))
+                .addProperty("tags", new ArraySchema().items(new StringSchema()));
+            if (i > 0) {
+                schema.addProperty("parent", new Schema<>().$ref("#/components/schemas/Model" + (i - 1)));
+            }
+            schema.setRequired(List.of("id", "name"));
+            schemas.put("Model" + i, schema);
+        }
+
+        var tags = new ArrayList<Tag>(tagCount);
+        var paths = new Paths();
+        int op = 0;
+        for (int t = 0; t < tagCount; t++) {
+            var tagName = "tag" + t;
+            tags.add(new Tag().name(tagName).description("Operations of _" + tagName + "_"));
+            for (int o = 0; o < opsPerTag; o++, op++) {
+                var ref = "#/components/schemas/Model" + (op % schemaCount);
+                var content = new Content().addMediaType("application/json", new MediaType().schema(new Schema<>().$ref(ref)));
+                var get = new Operation()
+                    .operationId("get" + op)
+                    .addTagsItem(tagName)
+                    .summary("Get item " + op)
+                    .description(op % 5 == 0 ? MARKDOWN : "Returns item **" + op + "**.")
+                    .addParametersItem(new PathParameter().name("id").schema(new IntegerSchema()).description("Item id"))
+                    .addParametersItem(new QueryParameter().name("filter").schema(new StringSchema()).description("Filter `expression`"))
+                    .responses(new ApiResponses()
+                        .addApiResponse("200", new ApiResponse().description("OK").content(content))
+                        .addApiResponse("404", new ApiResponse().description("Not found")));
+                var post = new Operation()
+                    .operationId("post" + op)
+                    .addTagsItem(tagName)
+                    .summary("Update item " + op)
+                    .requestBody(new RequestBody().description("Item to save").content(content))
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK").content(content)));
+                paths.addPathItem("/" + tagName + "/items" + o + "/{id}", new PathItem().get(get).post(post));
+            }
+        }
+
+        return new OpenAPI()
+            .info(new Info().title("Benchmark " + size).version("1.0").description(MARKDOWN))
+            .tags(tags)
+            .paths(paths)
+            .components(new Components().schemas(schemas));
+    }
+}
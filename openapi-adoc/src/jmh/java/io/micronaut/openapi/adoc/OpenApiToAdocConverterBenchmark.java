@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.adoc;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.micronaut.openapi.adoc.md.MdToAdocConverter;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import freemarker.template.TemplateException;
+
+/**
+ * Benchmarks for full OpenAPI to AsciiDoc conversion.
+ * <p>
+ * Converted Markdown descriptions are cached in a static cache, so cache state is kept in separate state classes:
+ * their setup methods are run only for benchmarks which use them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OpenApiToAdocConverterBenchmark {
+
+    @Param({"small", "medium", "huge"})
+    public String size;
+
+    private OpenAPI openApi;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        openApi = BenchmarkSpecs.openApi(size);
+    }
+
+    /**
+     * Empty cache before every call. Even the small spec takes much longer to convert than the invocation
+     * level setup overhead.
+     */
+    @State(Scope.Thread)
+    public static class ColdCache {
+
+        @Setup(Level.Invocation)
+        public void clearCache() {
+            MdToAdocConverter.clearCache();
+        }
+    }
+
+    /**
+     * Cache with converted descriptions of the spec, filled before every iteration.
+     */
+    @State(Scope.Thread)
+    public static class WarmCache {
+
+        @Setup(Level.Iteration)
+        public void fillCache(OpenApiToAdocConverterBenchmark benchmark) throws TemplateException, IOException {
+            MdToAdocConverter.clearCache();
+            OpenApiToAdocConverter.convert(benchmark.openApi, Map.of(), Writer.nullWriter());
+        }
+    }
+
+    /**
+     * Conversion to writer without IO with empty Markdown cache, source OpenAPI object is not changed by converter.
+     *
+     * @param cache empty cache
+     *
+     * @throws TemplateException some problems with freemarker templates
+     * @throws IOException some problems with writer
+     */
+    @Benchmark
+    public void convertCold(ColdCache cache) throws TemplateException, IOException {
+        OpenApiToAdocConverter.convert(openApi, Map.of(), Writer.nullWriter());
+    }
+
+    /**
+     * Conversion to writer without IO, all Markdown descriptions are resolved from cache.
+     *
+     * @param cache cache with converted descriptions
+     *
+     * @throws TemplateException some problems with freemarker templates
+     * @throws IOException some problems with writer
+     */
+    @Benchmark
+    public void convertWarm(WarmCache cache) throws TemplateException, IOException {
+        OpenApiToAdocConverter.convert(openApi, Map.of(), Writer.nullWriter());
+    }
+}
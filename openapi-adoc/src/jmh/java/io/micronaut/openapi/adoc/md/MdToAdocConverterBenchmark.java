@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.adoc.md;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micronaut.openapi.adoc.BenchmarkSpecs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pegdown.Extensions;
+import org.pegdown.PegDownProcessor;
+import org.pegdown.ast.RootNode;
+
+/**
+ * Benchmarks for Markdown to AsciiDoc conversion.
+ * <p>
+ * Converted texts are cached in a static cache, so cache state is kept in separate state classes:
+ * their setup methods are run only for benchmarks which use them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MdToAdocConverterBenchmark {
+
+    private PegDownProcessor processor;
+    private RootNode rootNode;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        processor = new PegDownProcessor(Extensions.ALL);
+        rootNode = processor.parseMarkdown(BenchmarkSpecs.MARKDOWN.toCharArray());
+    }
+
+    /**
+     * Empty cache before every call. Invocation level setup adds timestamp overhead, which is small
+     * compared with Markdown parsing.
+     */
+    @State(Scope.Thread)
+    public static class ColdCache {
+
+        @Setup(Level.Invocation)
+        public void clearCache() {
+            MdToAdocConverter.clearCache();
+        }
+    }
+
+    /**
+     * Cache with converted text, filled before every iteration.
+     */
+    @State(Scope.Thread)
+    public static class WarmCache {
+
+        @Setup(Level.Iteration)
+        public void fillCache() {
+            MdToAdocConverter.clearCache();
+            MdToAdocConverter.convert(BenchmarkSpecs.MARKDOWN);
+        }
+    }
+
+    /**
+     * Full conversion: parsing and serialization, without cached results. Processor is created once, like for
+     * conversion of all descriptions of OpenAPI object.
+     *
+     * @param cache empty cache
+     *
+     * @return AsciiDoc text
+     */
+    @Benchmark
+    public String convertCold(ColdCache cache) {
+        return MdToAdocConverter.convert(BenchmarkSpecs.MARKDOWN, processor);
+    }
+
+    /**
+     * Conversion of already converted text, resolved from cache.
+     *
+     * @param cache cache with converted text
+     *
+     * @return AsciiDoc text
+     */
+    @Benchmark
+    public String convertWarm(WarmCache cache) {
+        return MdToAdocConverter.convert(BenchmarkSpecs.MARKDOWN);
+    }
+
+    /**
+     * Markdown parsing only.
+     *
+     * @return parsed AST
+     */
+    @Benchmark
+    public RootNode parse() {
+        return processor.parseMarkdown(BenchmarkSpecs.MARKDOWN.toCharArray());
+    }
+
+    /**
+     * AST serialization only.
+     *
+     * @return AsciiDoc text
+     */
+    @Benchmark
+    public String serialize() {
+        return new ToAsciiDocSerializer(rootNode, BenchmarkSpecs.MARKDOWN).toAsciiDoc();
+    }
+}
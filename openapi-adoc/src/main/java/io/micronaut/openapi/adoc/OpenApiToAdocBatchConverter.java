@@ -0,0 +1,284 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.adoc;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micronaut.openapi.adoc.utils.FileUtils;
+import io.micronaut.openapi.adoc.utils.SwaggerUtils;
+
+/**
+ * Batch conversion of several OpenAPI files to asciidoc format in one JVM.
+ * <p>
+ * Freemarker configuration, templates and Markdown parsers are shared between all files,
+ * files are parsed and rendered in parallel.
+ * <p>
+ * Command line usage:
+ * <pre>
+ * java io.micronaut.openapi.adoc.OpenApiToAdocBatchConverter [--threads N] &lt;output dir&gt; &lt;spec file or dir&gt;[=&lt;output file&gt;]...
+ * </pre>
+ * By default, output file is created in the output directory with the name of OpenAPI file and {@code .adoc} extension.
+ * OpenAPI file argument can set its own output file after {@code =}. Conversion fails if two OpenAPI files
+ * have the same output file.
+ * <p>
+ * Converter settings are read from system properties, like in {@link OpenApiToAdocConverter#convert()}.
+ *
+ * @since 6.13.1
+ */
+public final class OpenApiToAdocBatchConverter {
+
+    private static final String THREADS_OPTION = "--threads";
+    private static final String EXT_ADOC = ".adoc";
+    private static final String OUTPUT_SEPARATOR = "=";
+
+    private OpenApiToAdocBatchConverter() {
+    }
+
+    /**
+     * Command line entry point.
+     *
+     * @param args arguments: [--threads N] output directory and OpenAPI files or directories
+     *
+     * @throws IOException some problems with files
+     */
+    public static void main(String[] args) throws IOException {
+        var threads = Runtime.getRuntime().availableProcessors();
+        var argIndex = 0;
+        if (args.length > 1 && THREADS_OPTION.equals(args[0])) {
+            threads = Integer.parseInt(args[1]);
+            argIndex = 2;
+        }
+        if (args.length - argIndex < 2) {
+            System.err.println("Usage: OpenApiToAdocBatchConverter [" + THREADS_OPTION + " N] <output dir> <spec file or dir>[=<output file>]...");
+            System.exit(1);
+            return;
+        }
+        var outputDir = Path.of(args[argIndex]);
+        var outputs = new LinkedHashMap<Path, Path>();
+        for (var i = argIndex + 1; i < args.length; i++) {
+            var arg = args[i];
+            var separatorIndex = arg.indexOf(OUTPUT_SEPARATOR);
+            if (separatorIndex > 0) {
+                outputs.put(Path.of(arg.substring(0, separatorIndex)), Path.of(arg.substring(separatorIndex + 1)));
+                continue;
+            }
+            for (var spec : findSpecs(Path.of(arg))) {
+                outputs.put(spec, outputFile(spec, outputDir));
+            }
+        }
+
+        var start = System.nanoTime();
+        List<ConversionResult> results;
+        try {
+            results = convert(outputs, System.getProperties(), threads);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+            return;
+        }
+        var failed = 0;
+        for (var result : results) {
+            if (result.error() != null) {
+                failed++;
+                System.err.println("FAILED " + result.spec() + ": " + result.error());
+            } else {
+                System.out.println((result.written() ? "WRITTEN   " : "UNCHANGED ") + result.spec() + " -> " + result.output()
+                    + " (parse " + result.parseMillis() + " ms, render " + result.renderMillis() + " ms)");
+            }
+        }
+        System.out.println("Converted " + (results.size() - failed) + " of " + results.size() + " files in "
+            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Find OpenAPI files: file itself or all YAML and JSON files in directory.
+     *
+     * @param path file or directory
+     *
+     * @return OpenAPI files sorted by name
+     *
+     * @throws IOException some problems with files
+     */
+    public static List<Path> findSpecs(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        try (var files = Files.list(path)) {
+            return files
+                .filter(file -> {
+                    var fileName = file.getFileName().toString().toLowerCase();
+                    return Files.isRegularFile(file)
+                        && (fileName.endsWith(".yml") || fileName.endsWith(".yaml") || fileName.endsWith(".json"));
+                })
+                .sorted(Comparator.comparing(Path::toString))
+                .toList();
+        }
+    }
+
+    /**
+     * Default output file of OpenAPI file: file in output directory with the OpenAPI file name and {@code .adoc} extension.
+     *
+     * @param spec OpenAPI file
+     * @param outputDir output directory
+     *
+     * @return output file
+     */
+    public static Path outputFile(Path spec, Path outputDir) {
+        var fileName = spec.getFileName().toString();
+        return outputDir.resolve((fileName.contains(".") ? fileName.substring(0, fileName.lastIndexOf('.')) : fileName) + EXT_ADOC);
+    }
+
+    /**
+     * Convert OpenAPI files to asciidoc files in output directory. Output file name is the OpenAPI file name
+     * with {@code .adoc} extension. Files with unchanged content are not rewritten.
+     *
+     * @param specs OpenAPI files
+     * @param outputDir output directory
+     * @param props converter config properties
+     * @param threads number of threads
+     *
+     * @return conversion results in the same order as OpenAPI files
+     *
+     * @throws IllegalArgumentException if several OpenAPI files have the same name
+     */
+    public static List<ConversionResult> convert(List<Path> specs, Path outputDir, Map props, int threads) {
+        var outputs = new LinkedHashMap<Path, Path>();
+        for (var spec : specs) {
+            outputs.put(spec, outputFile(spec, outputDir));
+        }
+        return convert(outputs, props, threads);
+    }
+
+    /**
+     * Convert OpenAPI files to the given asciidoc files. Files with unchanged content are not rewritten.
+     *
+     * @param outputs OpenAPI files and their output files
+     * @param props converter config properties
+     * @param threads number of threads
+     *
+     * @return conversion results in the iteration order of OpenAPI files
+     *
+     * @throws IllegalArgumentException if several OpenAPI files have the same output file
+     */
+    public static List<ConversionResult> convert(Map<Path, Path> outputs, Map props, int threads) {
+        if (outputs.isEmpty()) {
+            return List.of();
+        }
+        checkUniqueOutputs(outputs);
+        var specs = new ArrayList<>(outputs.keySet());
+        var threadCounter = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, specs.size())), runnable -> {
+            var thread = new Thread(runnable, "openapi-adoc-batch-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            var futures = new ArrayList<Future<ConversionResult>>(specs.size());
+            for (var spec : specs) {
+                futures.add(executor.submit(() -> convert(spec, outputs.get(spec), props)));
+            }
+            var results = new ArrayList<ConversionResult>(specs.size());
+            for (var i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    results.add(new ConversionResult(specs.get(i), null, 0, 0, false, "Interrupted"));
+                } catch (ExecutionException e) {
+                    results.add(new ConversionResult(specs.get(i), null, 0, 0, false, String.valueOf(e.getCause())));
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void checkUniqueOutputs(Map<Path, Path> outputs) {
+        var specsByOutput = new HashMap<Path, Path>();
+        for (var entry : outputs.entrySet()) {
+            var prevSpec = specsByOutput.put(entry.getValue().toAbsolutePath().normalize(), entry.getKey());
+            if (prevSpec != null) {
+                throw new IllegalArgumentException("OpenAPI files " + prevSpec + " and " + entry.getKey() + " have the same output file "
+                    + entry.getValue() + ", set output file explicitly for one of them");
+            }
+        }
+    }
+
+    private static ConversionResult convert(Path spec, Path output, Map props) {
+        var fileName = spec.getFileName().toString();
+        var outputDir = output.toAbsolutePath().getParent();
+        long parseMillis = 0;
+        long renderMillis = 0;
+        try {
+            var start = System.nanoTime();
+            var openApi = SwaggerUtils.readOpenApi(Files.readString(spec), fileName.toLowerCase().endsWith(".json"));
+            parseMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            start = System.nanoTime();
+            Files.createDirectories(outputDir);
+            boolean written;
+            if (Boolean.parseBoolean(String.valueOf(props.get(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_SPLIT)))) {
+                written = !OpenApiToAdocConverter.convertSplit(openApi, props, output).isEmpty();
+            } else {
+                var writer = new StringWriter();
+                OpenApiToAdocConverter.convert(openApi, props, writer);
+                written = FileUtils.writeIfChanged(output, writer.toString());
+            }
+            renderMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new ConversionResult(spec, output, parseMillis, renderMillis, written, null);
+        } catch (Exception e) {
+            return new ConversionResult(spec, output, parseMillis, renderMillis, false, e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+    }
+
+    /**
+     * Conversion result of one OpenAPI file.
+     *
+     * @param spec OpenAPI file
+     * @param output asciidoc file
+     * @param parseMillis OpenAPI file parsing time in milliseconds
+     * @param renderMillis asciidoc rendering and writing time in milliseconds
+     * @param written true, if asciidoc file was changed
+     * @param error error message, null if conversion was successful
+     */
+    public record ConversionResult(
+        Path spec,
+        Path output,
+        long parseMillis,
+        long renderMillis,
+        boolean written,
+        String error
+    ) {
+    }
+}
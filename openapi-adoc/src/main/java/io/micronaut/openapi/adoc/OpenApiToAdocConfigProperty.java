@@ -50,4 +50,12 @@ public interface OpenApiToAdocConfigProperty {
      * OpenAPI file path.
      */
     String MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH = "micronaut.openapi.adoc.openapi.path";
+    /**
+     * Write separate files for every tag and schema group, which are included in the root document.
+     */
+    String MICRONAUT_OPENAPI_ADOC_SPLIT = "micronaut.openapi.adoc.split";
+    /**
+     * Custom root template filename for split output.
+     */
+    String MICRONAUT_OPENAPI_ADOC_SPLIT_TEMPLATE_FILENAME = "micronaut.openapi.adoc.split.template.filename";
 }
@@ -17,24 +17,41 @@ package io.micronaut.openapi.adoc;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.micronaut.openapi.OpenApiUtils;
 import io.micronaut.openapi.adoc.md.MdToAdocConverter;
+import io.micronaut.openapi.adoc.utils.CollectionUtils;
+import io.micronaut.openapi.adoc.utils.FileUtils;
 import io.micronaut.openapi.adoc.utils.SwaggerUtils;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.security.SecurityScheme;
 
 import freemarker.cache.ClassTemplateLoader;
 import freemarker.cache.FileTemplateLoader;
 import freemarker.cache.MultiTemplateLoader;
 import freemarker.cache.TemplateLoader;
 import freemarker.template.Configuration;
+import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import freemarker.template.TemplateModelException;
 
@@ -67,6 +84,42 @@ public final class OpenApiToAdocConverter {
 
     private static final String TEMPLATE_PREFIX = "template_";
     private static final String TEMPLATES_DIR = "/template";
+    private static final String EXT_ADOC = ".adoc";
+    private static final String FRAGMENTS_DIR_POSTFIX = "_fragments";
+    // list of fragment files, which were generated by the previous conversion
+    private static final String FRAGMENTS_MANIFEST = ".generated-fragments";
+    private static final String PATHS_FRAGMENT_PREFIX = "paths-";
+    private static final String SCHEMAS_FRAGMENT_PREFIX = "schemas-";
+    private static final String OTHER_SCHEMAS_GROUP = "other";
+    private static final String DEFAULT_TAG = "default";
+
+    private static final Map<String, String> DEFAULT_TEMPLATES = Map.ofEntries(
+        Map.entry(DEFINITIONS, "definitions.ftl"),
+        Map.entry(OVERVIEW, "overview.ftl"),
+        Map.entry(PATHS, "paths.ftl"),
+        Map.entry(CONTENT, "content.ftl"),
+        Map.entry(EXAMPLES, "examples.ftl"),
+        Map.entry(EXTERNAL_DOCS, "externalDocs.ftl"),
+        Map.entry(HEADERS, "headers.ftl"),
+        Map.entry(LINKS, "links.ftl"),
+        Map.entry(PARAMETERS, "parameters.ftl"),
+        Map.entry(PROPERTIES, "properties.ftl"),
+        Map.entry(PROPERTY_DESCRIPTION, "propertyDescription.ftl"),
+        Map.entry(REQUEST_BODY, "requestBody.ftl"),
+        Map.entry(RESPONSES, "responses.ftl"),
+        Map.entry(SCHEMA_TYPE, "schemaType.ftl"),
+        Map.entry(SECURITY_REQUIREMENTS, "securityRequirements.ftl"),
+        Map.entry(SERVERS, "servers.ftl")
+    );
+
+    /**
+     * Freemarker configurations by custom templates directories.
+     */
+    private static final Map<String, Configuration> CONFIGURATIONS = new ConcurrentHashMap<>();
+    /**
+     * Custom template names from system properties, collected once at the first conversion.
+     */
+    private static volatile Map<String, Object> systemTemplateNames;
 
     private OpenApiToAdocConverter() {
     }
@@ -84,7 +137,7 @@ public final class OpenApiToAdocConverter {
         }
         var openApi = SwaggerUtils.readOpenApiFromLocation(openApiFile);
 
-        var outputPath = Paths.get(System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH, "build/generated"))
+        var outputPath = Path.of(System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH, "build/generated"))
             .resolve(System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME, "openApiDoc.adoc"));
 
         if (outputPath.getParent() != null) {
@@ -95,6 +148,11 @@ public final class OpenApiToAdocConverter {
             }
         }
 
+        if (Boolean.parseBoolean(System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_SPLIT))) {
+            convertSplit(openApi, System.getProperties(), outputPath);
+            return;
+        }
+
         var fileExists = Files.exists(outputPath);
         try (var writer = fileExists ? Files.newBufferedWriter(outputPath, UTF_8, StandardOpenOption.APPEND) : Files.newBufferedWriter(outputPath, UTF_8)) {
             convert(openApi, System.getProperties(), writer);
@@ -102,7 +160,9 @@ public final class OpenApiToAdocConverter {
     }
 
     /**
-     * Conversion from openAPI format to asciidoc format.
+     * Conversion from openAPI format to asciidoc format. Source openAPI object is not changed.
+     * <p>
+     * Custom template names from system properties override the same names from {@code props}.
      *
      * @param openApi openAPI object
      * @param props converter config properties
@@ -112,9 +172,153 @@ public final class OpenApiToAdocConverter {
      * @throws IOException some problems with files
      */
     public static void convert(OpenAPI openApi, Map props, Writer writer) throws TemplateException, IOException {
+        convert(openApi, props, writer, true);
+    }
+
+    /**
+     * Conversion from openAPI format to asciidoc format.
+     * <p>
+     * Custom template names from system properties override the same names from {@code props}.
+     *
+     * @param openApi openAPI object
+     * @param props converter config properties
+     * @param writer writer for rendered template
+     * @param copy convert descriptions in a copy of openAPI object, if false, descriptions of openAPI object are replaced
+     *
+     * @throws TemplateException som problems with freemarker templates
+     * @throws IOException some problems with files
+     */
+    public static void convert(OpenAPI openApi, Map props, Writer writer, boolean copy) throws TemplateException, IOException {
+
+        openApi = convertDescriptions(openApi, copy);
+
+        var model = createModel(openApi, props);
+        var templateFilename = getProperty(props, OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_FILENAME, "openApiDoc.ftl");
+        var cfg = getFreemarkerConfig(getProperty(props, OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATES_DIR_PATH, null));
+        var template = cfg.getTemplate(templateFilename);
+
+        template.process(model, writer);
+    }
+
+    /**
+     * Conversion from openAPI format to asciidoc format with separate files for every tag and schema group.
+     * <p>
+     * Root document contains overview, security schemes and {@code include::} directives for fragments.
+     * Fragments are written to the directory next to the root document, named as root document without extension.
+     * Operations are placed to the fragment of their first tag, schemas are grouped by the first letter of the name.
+     * Files with unchanged content are not rewritten. Names of generated fragments are saved to the manifest file
+     * in the fragments directory, so fragments which are not generated anymore are deleted, while other files
+     * in the directory are kept.
+     *
+     * @param openApi openAPI object
+     * @param props converter config properties
+     * @param rootFile root document path
+     *
+     * @return written files
+     *
+     * @throws TemplateException som problems with freemarker templates
+     * @throws IOException some problems with files
+     */
+    public static List<Path> convertSplit(OpenAPI openApi, Map props, Path rootFile) throws TemplateException, IOException {
+        return convertSplit(openApi, props, rootFile, true);
+    }
+
+    /**
+     * Conversion from openAPI format to asciidoc format with separate files for every tag and schema group.
+     *
+     * @param openApi openAPI object
+     * @param props converter config properties
+     * @param rootFile root document path
+     * @param copy convert descriptions in a copy of openAPI object, if false, descriptions of openAPI object are replaced
+     *
+     * @return written files
+     *
+     * @throws TemplateException som problems with freemarker templates
+     * @throws IOException some problems with files
+     *
+     * @see #convertSplit(OpenAPI, Map, Path)
+     */
+    public static List<Path> convertSplit(OpenAPI openApi, Map props, Path rootFile, boolean copy) throws TemplateException, IOException {
+
+        openApi = convertDescriptions(openApi, copy);
+
+        var baseModel = createModel(openApi, props);
+        var cfg = getFreemarkerConfig(getProperty(props, OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATES_DIR_PATH, null));
+
+        var rootFileName = rootFile.getFileName().toString();
+        var fragmentsDirName = rootFileName.contains(".") ? rootFileName.substring(0, rootFileName.lastIndexOf('.')) : rootFileName + FRAGMENTS_DIR_POSTFIX;
+        var fragmentsDir = rootFile.resolveSibling(fragmentsDirName);
+        Files.createDirectories(fragmentsDir);
+
+        var writtenFiles = new ArrayList<Path>();
+        var fragmentFiles = new LinkedHashSet<Path>();
+
+        var pathsTemplate = cfg.getTemplate(templateName(baseModel, PATHS));
+        var pathsFragments = new ArrayList<String>();
+        var usedFileNames = new HashSet<String>();
+        for (var entry : splitPathsByTags(openApi.getPaths()).entrySet()) {
+            var fileName = uniqueFileName(PATHS_FRAGMENT_PREFIX + fileNamePart(entry.getKey()), usedFileNames);
+            var model = new HashMap<>(baseModel);
+            model.put("paths", entry.getValue());
+            model.put("pathsTitle", entry.getKey());
+            writeFragment(pathsTemplate, model, fragmentsDir.resolve(fileName), fragmentFiles, writtenFiles);
+            pathsFragments.add(fragmentsDirName + '/' + fileName);
+        }
+
+        var components = openApi.getComponents();
+        var definitionsTemplate = cfg.getTemplate(templateName(baseModel, DEFINITIONS));
+        var schemasFragments = new ArrayList<String>();
+        if (components != null && CollectionUtils.isNotEmpty(components.getSchemas())) {
+            for (var entry : splitSchemas(components.getSchemas()).entrySet()) {
+                var fileName = SCHEMAS_FRAGMENT_PREFIX + entry.getKey() + EXT_ADOC;
+                var model = new HashMap<>(baseModel);
+                model.put("components", copyComponents(components, entry.getValue(), null));
+                model.put("componentsHeader", false);
+                model.put("schemasHeader", false);
+                writeFragment(definitionsTemplate, model, fragmentsDir.resolve(fileName), fragmentFiles, writtenFiles);
+                schemasFragments.add(fragmentsDirName + '/' + fileName);
+            }
+        }
+
+        var rootModel = new HashMap<>(baseModel);
+        rootModel.put("pathsFragments", pathsFragments);
+        rootModel.put("schemasFragments", schemasFragments);
+        if (components != null) {
+            rootModel.put("components", copyComponents(components, null, components.getSecuritySchemes()));
+        }
+        var rootTemplate = cfg.getTemplate(getProperty(props, OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_SPLIT_TEMPLATE_FILENAME, "openApiDocSplit.ftl"));
+        writeFragment(rootTemplate, rootModel, rootFile, fragmentFiles, writtenFiles);
 
+        // remove fragments of deleted tags and schema groups
+        var manifest = fragmentsDir.resolve(FRAGMENTS_MANIFEST);
+        if (Files.isRegularFile(manifest)) {
+            for (var fileName : Files.readAllLines(manifest)) {
+                var file = fragmentsDir.resolve(fileName);
+                if (!fileName.isBlank() && !fragmentFiles.contains(file) && fragmentsDir.equals(file.getParent())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        var manifestContent = new StringBuilder();
+        for (var file : fragmentFiles) {
+            if (fragmentsDir.equals(file.getParent())) {
+                manifestContent.append(file.getFileName()).append('\n');
+            }
+        }
+        FileUtils.writeIfChanged(manifest, manifestContent.toString());
+
+        return writtenFiles;
+    }
+
+    private static OpenAPI convertDescriptions(OpenAPI openApi, boolean copy) {
+        if (copy) {
+            return MdToAdocConverter.convertCopy(openApi);
+        }
         MdToAdocConverter.convert(openApi);
+        return openApi;
+    }
 
+    private static Map<String, Object> createModel(OpenAPI openApi, Map props) {
         var model = new HashMap<String, Object>();
         model.put("info", openApi.getInfo());
         model.put("externalDocs", openApi.getExternalDocs());
@@ -125,44 +329,144 @@ public final class OpenApiToAdocConverter {
         model.put("paths", openApi.getPaths());
         model.put("components", openApi.getComponents());
 
-        model.put(template(DEFINITIONS), "definitions.ftl");
-        model.put(template(OVERVIEW), "overview.ftl");
-        model.put(template(PATHS), "paths.ftl");
-        model.put(template(CONTENT), "content.ftl");
-        model.put(template(EXAMPLES), "examples.ftl");
-        model.put(template(EXTERNAL_DOCS), "externalDocs.ftl");
-        model.put(template(HEADERS), "headers.ftl");
-        model.put(template(LINKS), "links.ftl");
-        model.put(template(PARAMETERS), "parameters.ftl");
-        model.put(template(PROPERTIES), "properties.ftl");
-        model.put(template(PROPERTY_DESCRIPTION), "propertyDescription.ftl");
-        model.put(template(REQUEST_BODY), "requestBody.ftl");
-        model.put(template(RESPONSES), "responses.ftl");
-        model.put(template(SCHEMA_TYPE), "schemaType.ftl");
-        model.put(template(SECURITY_REQUIREMENTS), "securityRequirements.ftl");
-        model.put(template(SERVERS), "servers.ftl");
-
-        for (var entry : System.getProperties().entrySet()) {
+        // default sub-template names are shared variables of configuration, so only custom names are added to the model
+        addCustomTemplateNames(props, model);
+        model.putAll(getSystemTemplateNames());
+
+        return model;
+    }
+
+    private static String templateName(Map<String, Object> model, String templateName) {
+        var customName = model.get(template(templateName));
+        return customName != null ? customName.toString() : DEFAULT_TEMPLATES.get(templateName);
+    }
+
+    private static void writeFragment(Template template, Map<String, Object> model, Path file, Set<Path> fragmentFiles, List<Path> writtenFiles) throws TemplateException, IOException {
+        var writer = new StringWriter();
+        template.process(model, writer);
+        fragmentFiles.add(file);
+        if (FileUtils.writeIfChanged(file, writer.toString())) {
+            writtenFiles.add(file);
+        }
+    }
+
+    private static Map<String, Paths> splitPathsByTags(Paths paths) {
+        var pathsByTag = new LinkedHashMap<String, Paths>();
+        if (CollectionUtils.isEmpty(paths)) {
+            return pathsByTag;
+        }
+        for (var pathEntry : paths.entrySet()) {
+            for (var operationEntry : pathEntry.getValue().readOperationsMap().entrySet()) {
+                var operation = operationEntry.getValue();
+                var tag = CollectionUtils.isNotEmpty(operation.getTags()) ? operation.getTags().get(0) : DEFAULT_TAG;
+                pathsByTag.computeIfAbsent(tag, k -> new Paths())
+                    .computeIfAbsent(pathEntry.getKey(), k -> new PathItem())
+                    .operation(operationEntry.getKey(), operation);
+            }
+        }
+        return pathsByTag;
+    }
+
+    private static Map<String, Map<String, Schema>> splitSchemas(Map<String, Schema> schemas) {
+        var schemasByGroup = new TreeMap<String, Map<String, Schema>>();
+        for (var entry : schemas.entrySet()) {
+            var schemaName = entry.getKey();
+            var firstChar = schemaName.isEmpty() ? '_' : Character.toLowerCase(schemaName.charAt(0));
+            var group = firstChar >= 'a' && firstChar <= 'z' ? String.valueOf(firstChar) : OTHER_SCHEMAS_GROUP;
+            schemasByGroup.computeIfAbsent(group, k -> new LinkedHashMap<>())
+                .put(schemaName, entry.getValue());
+        }
+        return schemasByGroup;
+    }
+
+    private static Components copyComponents(Components components, Map<String, Schema> schemas, Map<String, SecurityScheme> securitySchemes) {
+        var copy = new Components()
+            .schemas(schemas)
+            .responses(components.getResponses())
+            .parameters(components.getParameters())
+            .examples(components.getExamples())
+            .requestBodies(components.getRequestBodies())
+            .headers(components.getHeaders())
+            .securitySchemes(securitySchemes)
+            .links(components.getLinks())
+            .callbacks(components.getCallbacks());
+        copy.setPathItems(components.getPathItems());
+        copy.setExtensions(components.getExtensions());
+        return copy;
+    }
+
+    private static String fileNamePart(String name) {
+        var result = name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+        result = result.replaceAll("^-+|-+$", "");
+        return result.isEmpty() ? DEFAULT_TAG : result;
+    }
+
+    private static String uniqueFileName(String baseName, Set<String> usedFileNames) {
+        var fileName = baseName + EXT_ADOC;
+        for (int i = 2; !usedFileNames.add(fileName); i++) {
+            fileName = baseName + '-' + i + EXT_ADOC;
+        }
+        return fileName;
+    }
+
+    /**
+     * Clear cached freemarker configurations, templates and custom template names from system properties.
+     */
+    public static void clearCache() {
+        CONFIGURATIONS.clear();
+        systemTemplateNames = null;
+    }
+
+    private static String getProperty(Map props, String key, String defaultValue) {
+        var value = props != null ? props.get(key) : null;
+        if (value == null || value.toString().isBlank()) {
+            value = System.getProperty(key);
+        }
+        return value != null && !value.toString().isBlank() ? value.toString() : defaultValue;
+    }
+
+    private static void addCustomTemplateNames(Map<?, ?> props, Map<String, Object> model) {
+        if (props == null) {
+            return;
+        }
+        for (var entry : props.entrySet()) {
             var key = entry.getKey().toString();
-            if (key.startsWith(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_PREFIX)) {
+            if (key.startsWith(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_PREFIX) && entry.getValue() != null) {
                 model.put(key.replace(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_PREFIX, TEMPLATE_PREFIX), entry.getValue());
             }
         }
+    }
 
-        var templateFilename = System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_FILENAME, "openApiDoc.ftl");
-        var customTemplatesDirsStr = System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATES_DIR_PATH);
+    private static Map<String, Object> getSystemTemplateNames() {
+        var names = systemTemplateNames;
+        if (names == null) {
+            names = new HashMap<>();
+            addCustomTemplateNames(System.getProperties(), names);
+            systemTemplateNames = names;
+        }
+        return names;
+    }
+
+    /**
+     * Configuration is thread-safe and keeps loaded templates in its template cache,
+     * so one instance is used for all conversions with the same custom templates directories.
+     */
+    private static Configuration getFreemarkerConfig(String customTemplatesDirsStr) throws IOException, TemplateModelException {
+        var key = customTemplatesDirsStr != null ? customTemplatesDirsStr : "";
+        var cfg = CONFIGURATIONS.get(key);
+        if (cfg != null) {
+            return cfg;
+        }
         String[] customTemplatesDirs = null;
         if (customTemplatesDirsStr != null && !customTemplatesDirsStr.isBlank()) {
             customTemplatesDirs = customTemplatesDirsStr.split(",");
         }
-
-        var cfg = getFreemarkerConfig(customTemplatesDirs);
-        var template = cfg.getTemplate(templateFilename);
-
-        template.process(model, writer);
+        cfg = createFreemarkerConfig(customTemplatesDirs);
+        var existed = CONFIGURATIONS.putIfAbsent(key, cfg);
+        return existed != null ? existed : cfg;
     }
 
-    private static Configuration getFreemarkerConfig(String[] customTemplatesDirs) throws IOException, TemplateModelException {
+    private static Configuration createFreemarkerConfig(String[] customTemplatesDirs) throws IOException, TemplateModelException {
         TemplateLoader templateLoader = new ClassTemplateLoader(OpenApiToAdocConverter.class, TEMPLATES_DIR);
         if (customTemplatesDirs != null && customTemplatesDirs.length > 0) {
             var templateLoaders = new ArrayList<TemplateLoader>();
@@ -188,7 +492,12 @@ public final class OpenApiToAdocConverter {
         var cfg = new Configuration(Configuration.VERSION_2_3_32);
         cfg.setTemplateLoader(templateLoader);
         cfg.setDefaultEncoding(UTF_8.displayName());
+        // templates have no localized variants, skip lookups like openApiDoc_en_US.ftl
+        cfg.setLocalizedLookup(false);
         cfg.setSharedVariable("JSON", OpenApiUtils.getJsonMapper());
+        for (var entry : DEFAULT_TEMPLATES.entrySet()) {
+            cfg.setSharedVariable(template(entry.getKey()), entry.getValue());
+        }
         return cfg;
     }
 
@@ -16,9 +16,12 @@
 package io.micronaut.openapi.adoc.md;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import io.micronaut.openapi.adoc.utils.CollectionUtils;
+import io.micronaut.openapi.adoc.utils.SwaggerUtils;
 import io.swagger.v3.oas.models.ExternalDocumentation;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.examples.Example;
@@ -42,6 +45,26 @@ import org.pegdown.ast.RootNode;
  */
 public final class MdToAdocConverter {
 
+    private static final Pattern FENCED_CODE_BLOCK_PATTERN = Pattern.compile("(?m)(?<!\n\n)(\\s*)```(\\w*\n)((?:\\1[^\n]*\n)+)\\1```");
+    static final int MAX_CACHE_SIZE = 10_000;
+
+    /**
+     * Converted texts. Descriptions are often repeated in different operations,
+     * so the least recently used texts are removed first.
+     */
+    private static final Map<String, String> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Parser creation is expensive and processor is not thread-safe, so one processor is used
+     * for all descriptions of one OpenAPI object. It's created only if some text is not cached.
+     */
+    private PegDownProcessor processor;
+
     private MdToAdocConverter() {
     }
 
@@ -53,39 +76,126 @@ public final class MdToAdocConverter {
      * @return Asciidoc text
      */
     public static String convert(String markdown) {
+        return convert(markdown, null);
+    }
+
+    /**
+     * Convert Markdown text to Asciidoc with the given Markdown processor.
+     * Processor is not thread-safe, so it can't be shared with other threads.
+     *
+     * @param markdown Markdown text
+     * @param processor Markdown processor, if null, new processor is created for not cached text
+     *
+     * @return Asciidoc text
+     */
+    public static String convert(String markdown, PegDownProcessor processor) {
         if (markdown == null || markdown.isBlank()) {
             return markdown;
         }
-        var processor = new PegDownProcessor(Extensions.ALL);
+        var result = getCached(markdown);
+        if (result != null) {
+            return result;
+        }
+        return convertAndCache(markdown, processor != null ? processor : new PegDownProcessor(Extensions.ALL));
+    }
+
+    /**
+     * Clear cache of converted texts.
+     */
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    static int getCacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    static boolean isCached(String markdown) {
+        synchronized (CACHE) {
+            return CACHE.containsKey(markdown);
+        }
+    }
+
+    private static String getCached(String markdown) {
+        synchronized (CACHE) {
+            return CACHE.get(markdown);
+        }
+    }
+
+    private static String convertAndCache(String markdown, PegDownProcessor processor) {
+        var result = doConvert(markdown, processor);
+        synchronized (CACHE) {
+            CACHE.put(markdown, result);
+        }
+        return result;
+    }
+
+    private static String doConvert(String markdown, PegDownProcessor processor) {
         // insert blank line before fenced code block if necessary
         if (markdown.contains("```")) {
-            markdown = markdown.replaceAll("(?m)(?<!\n\n)(\\s*)```(\\w*\n)((?:\\1[^\n]*\n)+)\\1```", "\n$1```$2$3$1```");
+            markdown = FENCED_CODE_BLOCK_PATTERN.matcher(markdown).replaceAll("\n$1```$2$3$1```");
         }
         RootNode rootNode = processor.parseMarkdown(markdown.toCharArray());
         return new ToAsciiDocSerializer(rootNode, markdown)
             .toAsciiDoc();
     }
 
+    private String convertText(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return markdown;
+        }
+        var result = getCached(markdown);
+        if (result != null) {
+            return result;
+        }
+        if (processor == null) {
+            processor = new PegDownProcessor(Extensions.ALL);
+        }
+        return convertAndCache(markdown, processor);
+    }
+
+    /**
+     * Convert all OpenAPI description fields from Markdown format to Asciidoc format in the copy of OpenAPI object.
+     * Source object is not changed, so it can be shared with other threads.
+     *
+     * @param openApi OpenAPI object
+     *
+     * @return converted copy of OpenAPI object
+     */
+    public static OpenAPI convertCopy(OpenAPI openApi) {
+        var copy = SwaggerUtils.copyOpenApi(openApi);
+        convert(copy);
+        return copy;
+    }
+
     /**
      * Convert all OpenAPI description fields from Markdown format to Asciidoc format.
      *
      * @param openApi OpenAPI object
      */
     public static void convert(OpenAPI openApi) {
+        new MdToAdocConverter().process(openApi);
+    }
+
+    private void process(OpenAPI openApi) {
         var info = openApi.getInfo();
         if (info != null) {
-            info.setDescription(convert(info.getDescription()));
-            info.setTermsOfService(convert(info.getTermsOfService()));
+            info.setDescription(convertText(info.getDescription()));
+            info.setTermsOfService(convertText(info.getTermsOfService()));
         }
         processExternalDocs(openApi.getExternalDocs());
 
         var servers = openApi.getServers();
         if (CollectionUtils.isNotEmpty(servers)) {
             for (var server : servers) {
-                server.setDescription(convert(server.getDescription()));
+                server.setDescription(convertText(server.getDescription()));
                 if (CollectionUtils.isNotEmpty(server.getVariables())) {
                     for (var serverVar : server.getVariables().values()) {
-                        serverVar.setDescription(convert(serverVar.getDescription()));
+                        serverVar.setDescription(convertText(serverVar.getDescription()));
                     }
                 }
             }
@@ -94,7 +204,7 @@ public final class MdToAdocConverter {
         var tags = openApi.getTags();
         if (CollectionUtils.isNotEmpty(tags)) {
             for (var tag : tags) {
-                tag.setDescription(convert(tag.getDescription()));
+                tag.setDescription(convertText(tag.getDescription()));
                 processExternalDocs(tag.getExternalDocs());
             }
         }
@@ -102,15 +212,15 @@ public final class MdToAdocConverter {
         var paths = openApi.getPaths();
         if (CollectionUtils.isNotEmpty(paths)) {
             for (var path : paths.values()) {
-                path.setSummary(convert(path.getSummary()));
-                path.setDescription(convert(path.getDescription()));
+                path.setSummary(convertText(path.getSummary()));
+                path.setDescription(convertText(path.getDescription()));
                 for (var operation : path.readOperations()) {
-                    operation.setSummary(convert(operation.getSummary()));
-                    operation.setDescription(convert(operation.getDescription()));
+                    operation.setSummary(convertText(operation.getSummary()));
+                    operation.setDescription(convertText(operation.getDescription()));
                     processExternalDocs(operation.getExternalDocs());
                     var requestBody = operation.getRequestBody();
                     if (requestBody != null) {
-                        requestBody.setDescription(convert(requestBody.getDescription()));
+                        requestBody.setDescription(convertText(requestBody.getDescription()));
                         processContent(requestBody.getContent());
                     }
                     if (CollectionUtils.isNotEmpty(operation.getParameters())) {
@@ -118,7 +228,7 @@ public final class MdToAdocConverter {
                             processSchema(parameter.getSchema());
                             processExamples(parameter.getExamples());
                             processContent(parameter.getContent());
-                            parameter.setDescription(convert(parameter.getDescription()));
+                            parameter.setDescription(convertText(parameter.getDescription()));
                         }
                     }
                     processResponses(operation.getResponses());
@@ -144,14 +254,14 @@ public final class MdToAdocConverter {
         }
     }
 
-    private static void processExternalDocs(ExternalDocumentation externalDocs) {
+    private void processExternalDocs(ExternalDocumentation externalDocs) {
         if (externalDocs == null) {
             return;
         }
-        externalDocs.setDescription(convert(externalDocs.getDescription()));
+        externalDocs.setDescription(convertText(externalDocs.getDescription()));
     }
 
-    private static void processSchemas(Map<String, Schema> schemas) {
+    private void processSchemas(Map<String, Schema> schemas) {
         if (CollectionUtils.isEmpty(schemas)) {
             return;
         }
@@ -160,39 +270,39 @@ public final class MdToAdocConverter {
         }
     }
 
-    private static void processSchema(Schema schema) {
+    private void processSchema(Schema schema) {
         if (schema == null) {
             return;
         }
         processExternalDocs(schema.getExternalDocs());
-        schema.setDescription(convert(schema.getDescription()));
+        schema.setDescription(convertText(schema.getDescription()));
         processSchemas(schema.getProperties());
         processSchema(schema.getItems());
     }
 
-    private static void processHeaders(Map<String, Header> headers) {
+    private void processHeaders(Map<String, Header> headers) {
         if (CollectionUtils.isEmpty(headers)) {
             return;
         }
         for (var header : headers.values()) {
-            header.setDescription(convert(header.getDescription()));
+            header.setDescription(convertText(header.getDescription()));
             processExamples(header.getExamples());
             processSchema(header.getSchema());
             processContent(header.getContent());
         }
     }
 
-    private static void processExamples(Map<String, Example> examples) {
+    private void processExamples(Map<String, Example> examples) {
         if (CollectionUtils.isEmpty(examples)) {
             return;
         }
         for (var example : examples.values()) {
-            example.setSummary(convert(example.getSummary()));
-            example.setDescription(convert(example.getDescription()));
+            example.setSummary(convertText(example.getSummary()));
+            example.setDescription(convertText(example.getDescription()));
         }
     }
 
-    private static void processContent(Content content) {
+    private void processContent(Content content) {
         if (content == null) {
             return;
         }
@@ -209,7 +319,7 @@ public final class MdToAdocConverter {
         }
     }
 
-    private static void processResponses(Map<String, ApiResponse> responses) {
+    private void processResponses(Map<String, ApiResponse> responses) {
         if (CollectionUtils.isEmpty(responses)) {
             return;
         }
@@ -217,27 +327,27 @@ public final class MdToAdocConverter {
         for (var response : responses.values()) {
             processHeaders(response.getHeaders());
             processContent(response.getContent());
-            response.setDescription(convert(response.getDescription()));
+            response.setDescription(convertText(response.getDescription()));
             processLinks(response.getLinks());
             if (CollectionUtils.isNotEmpty(response.getLinks())) {
                 for (var link : response.getLinks().values()) {
-                    link.setDescription(convert(link.getDescription()));
+                    link.setDescription(convertText(link.getDescription()));
                 }
             }
         }
     }
 
-    private static void processLinks(Map<String, Link> links) {
+    private void processLinks(Map<String, Link> links) {
         if (CollectionUtils.isEmpty(links)) {
             return;
         }
 
         for (var link : links.values()) {
-            link.setDescription(convert(link.getDescription()));
+            link.setDescription(convertText(link.getDescription()));
         }
     }
 
-    private static void processParameters(Collection<Parameter> parameters) {
+    private void processParameters(Collection<Parameter> parameters) {
         if (CollectionUtils.isEmpty(parameters)) {
             return;
         }
@@ -246,28 +356,28 @@ public final class MdToAdocConverter {
             processSchema(parameter.getSchema());
             processExamples(parameter.getExamples());
             processContent(parameter.getContent());
-            parameter.setDescription(convert(parameter.getDescription()));
+            parameter.setDescription(convertText(parameter.getDescription()));
         }
     }
 
-    private static void processRequestBodies(Collection<RequestBody> requestBodies) {
+    private void processRequestBodies(Collection<RequestBody> requestBodies) {
         if (CollectionUtils.isEmpty(requestBodies)) {
             return;
         }
 
         for (var requestBody : requestBodies) {
-            requestBody.setDescription(convert(requestBody.getDescription()));
+            requestBody.setDescription(convertText(requestBody.getDescription()));
             processContent(requestBody.getContent());
         }
     }
 
-    private static void processSecuritySchemas(Collection<SecurityScheme> securitySchemes) {
+    private void processSecuritySchemas(Collection<SecurityScheme> securitySchemes) {
         if (CollectionUtils.isEmpty(securitySchemes)) {
             return;
         }
 
         for (var securityScheme : securitySchemes) {
-            securityScheme.setDescription(convert(securityScheme.getDescription()));
+            securityScheme.setDescription(convertText(securityScheme.getDescription()));
         }
     }
 }
@@ -17,6 +17,12 @@ package io.micronaut.openapi.adoc.utils;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * File utilities methods.
@@ -57,4 +63,43 @@ public final class FileUtils {
         }
         throw new RuntimeException("Could not find " + file + " on the classpath");
     }
+
+    /**
+     * Write content to file, if file doesn't exist or has different content hash.
+     * New content is written to temporary file first and then atomically moved to target file.
+     *
+     * @param path file path
+     * @param content file content
+     *
+     * @return true, if file was written
+     *
+     * @throws IOException some problems with file
+     */
+    public static boolean writeIfChanged(Path path, String content) throws IOException {
+        var bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (Files.isRegularFile(path) && Files.size(path) == bytes.length
+            && MessageDigest.isEqual(hash(bytes), hash(Files.readAllBytes(path)))) {
+            return false;
+        }
+        var tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.write(tmpPath, bytes);
+            try {
+                Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmpPath);
+        }
+        return true;
+    }
+
+    private static byte[] hash(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
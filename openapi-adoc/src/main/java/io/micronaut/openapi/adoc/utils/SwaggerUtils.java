@@ -55,6 +55,18 @@ public final class SwaggerUtils {
         }
     }
 
+    /**
+     * Create deep copy of openAPI object.
+     *
+     * @param openApi openAPI object
+     *
+     * @return copy of openAPI object
+     */
+    public static OpenAPI copyOpenApi(OpenAPI openApi) {
+        var mapper = openApi.getOpenapi() != null && openApi.getOpenapi().startsWith("3.1") ? OpenApiUtils.getJsonMapper31() : OpenApiUtils.getJsonMapper();
+        return mapper.convertValue(openApi, OpenAPI.class);
+    }
+
     public static OpenAPI readOpenApiFromLocation(String location) {
 
         var isJson = location.endsWith(".json");
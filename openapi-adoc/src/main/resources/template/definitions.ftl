@@ -1,10 +1,14 @@
 <#if components?? && (components.getSchemas()?has_content || components.getSecuritySchemes()?has_content)>
+  <#if componentsHeader!true>
 [[_components]]
 == Components
+  </#if>
   <#if components.getSchemas()?has_content>
+    <#if schemasHeader!true>
 
 [[_components_schemas]]
 === Schemas
+    </#if>
     <#list components.getSchemas() as schemaName, schema>
 
 [[_components_schemas_${schemaName}]]
@@ -0,0 +1,27 @@
+<#include template_overview />
+<#if pathsFragments?has_content>
+
+== Paths
+  <#list pathsFragments as fragment>
+
+include::${fragment}[leveloffset=+1]
+  </#list>
+</#if>
+<#if schemasFragments?has_content || (components?? && components.getSecuritySchemes()?has_content)>
+
+[[_components]]
+== Components
+  <#if schemasFragments?has_content>
+
+[[_components_schemas]]
+=== Schemas
+    <#list schemasFragments as fragment>
+
+include::${fragment}[]
+    </#list>
+  </#if>
+  <#if components?? && components.getSecuritySchemes()?has_content>
+    <#assign componentsHeader = false />
+    <#include template_definitions />
+  </#if>
+</#if>
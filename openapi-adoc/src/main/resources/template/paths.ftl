@@ -1,6 +1,6 @@
 <#if paths?has_content>
 
-== Paths
+== ${pathsTitle!"Paths"}
   <#list paths as pathsStr, path>
     <#list path.readOperationsMap() as method, operation>
 
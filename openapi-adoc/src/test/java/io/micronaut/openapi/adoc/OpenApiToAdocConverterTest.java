@@ -2,16 +2,27 @@ package io.micronaut.openapi.adoc;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.micronaut.openapi.adoc.utils.SwaggerUtils;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import freemarker.template.TemplateException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class OpenApiToAdocConverterTest {
@@ -20,6 +31,7 @@ class OpenApiToAdocConverterTest {
 
     @BeforeEach
     void setup() throws IOException {
+        OpenApiToAdocConverter.clearCache();
         if (Files.exists(outputDir)) {
             Files.walk(outputDir)
                 .sorted(Comparator.reverseOrder())
@@ -45,4 +57,123 @@ class OpenApiToAdocConverterTest {
         var adoc = Files.readString(resultFile);
         assertTrue(adoc.contains("!!!!!!test custom template"));
     }
+
+    @Test
+    void testCustomTemplatePrecedence() throws IOException, TemplateException {
+
+        var linksTemplate = OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_PREFIX + "links";
+        var openApi = SwaggerUtils.readOpenApiFromLocation("/yaml/swagger_petstore.yaml");
+        try {
+            // template from system properties is used instead of the same template from props
+            System.setProperty(linksTemplate, "links1.ftl");
+            var props = Map.of(
+                OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATES_DIR_PATH, "classpath:/customDir",
+                linksTemplate, "missing.ftl"
+            );
+            var writer = new StringWriter();
+            OpenApiToAdocConverter.convert(openApi, props, writer);
+            assertTrue(writer.toString().contains("!!!!!!test custom template"));
+
+            // system properties are read once, until the cache is cleared
+            System.clearProperty(linksTemplate);
+            writer = new StringWriter();
+            OpenApiToAdocConverter.convert(openApi, props, writer);
+            assertTrue(writer.toString().contains("!!!!!!test custom template"));
+
+            OpenApiToAdocConverter.clearCache();
+            assertThrows(TemplateException.class, () -> OpenApiToAdocConverter.convert(openApi, props, new StringWriter()));
+        } finally {
+            System.clearProperty(linksTemplate);
+        }
+    }
+
+    @Test
+    void testSplit() throws IOException, TemplateException {
+
+        var rootFile = outputDir.resolve("split.adoc");
+        Files.createDirectories(outputDir);
+
+        var openApi = SwaggerUtils.readOpenApiFromLocation("/yaml/swagger_petstore.yaml");
+        var writtenFiles = OpenApiToAdocConverter.convertSplit(openApi, Map.of(), rootFile);
+
+        var fragmentsDir = outputDir.resolve("split");
+        assertTrue(writtenFiles.contains(rootFile));
+        assertTrue(Files.exists(fragmentsDir.resolve("paths-pet.adoc")));
+        assertTrue(Files.exists(fragmentsDir.resolve("paths-store.adoc")));
+        assertTrue(Files.exists(fragmentsDir.resolve("paths-user.adoc")));
+        assertTrue(Files.exists(fragmentsDir.resolve("schemas-p.adoc")));
+
+        var rootAdoc = Files.readString(rootFile);
+        assertTrue(rootAdoc.contains("include::split/paths-pet.adoc[leveloffset=+1]"));
+        assertTrue(rootAdoc.contains("include::split/schemas-p.adoc[]"));
+        assertTrue(Files.readString(fragmentsDir.resolve("paths-pet.adoc")).contains("== pet"));
+
+        // second conversion of the same document doesn't rewrite any file
+        openApi = SwaggerUtils.readOpenApiFromLocation("/yaml/swagger_petstore.yaml");
+        writtenFiles = OpenApiToAdocConverter.convertSplit(openApi, Map.of(), rootFile);
+        assertTrue(writtenFiles.isEmpty());
+
+        // only stale generated fragments are removed, user files are kept
+        var manifest = fragmentsDir.resolve(".generated-fragments");
+        assertTrue(Files.readAllLines(manifest).contains("paths-pet.adoc"));
+        Files.writeString(fragmentsDir.resolve("paths-old.adoc"), "== old");
+        Files.writeString(manifest, "paths-old.adoc\n", StandardOpenOption.APPEND);
+        Files.writeString(fragmentsDir.resolve("user.adoc"), "== user");
+
+        openApi = SwaggerUtils.readOpenApiFromLocation("/yaml/swagger_petstore.yaml");
+        OpenApiToAdocConverter.convertSplit(openApi, Map.of(), rootFile);
+        assertFalse(Files.exists(fragmentsDir.resolve("paths-old.adoc")));
+        assertTrue(Files.exists(fragmentsDir.resolve("user.adoc")));
+        assertTrue(Files.exists(fragmentsDir.resolve("paths-pet.adoc")));
+    }
+
+    @Test
+    void testBatch() throws IOException {
+
+        var specsDir = Path.of("src/test/resources/yaml");
+        var specs = OpenApiToAdocBatchConverter.findSpecs(specsDir);
+        assertTrue(specs.contains(specsDir.resolve("swagger_petstore.yaml")));
+
+        var results = OpenApiToAdocBatchConverter.convert(specs, outputDir, Map.of(), 2);
+        assertEquals(specs.size(), results.size());
+        for (var result : results) {
+            assertNull(result.error());
+            assertTrue(result.written());
+            assertTrue(Files.exists(result.output()));
+        }
+        assertTrue(Files.exists(outputDir.resolve("swagger_petstore.adoc")));
+
+        // second conversion doesn't rewrite unchanged files
+        results = OpenApiToAdocBatchConverter.convert(specs, outputDir, Map.of(), 2);
+        for (var result : results) {
+            assertFalse(result.written());
+        }
+    }
+
+    @Test
+    void testBatchOutputs() throws IOException {
+
+        var specsDir = outputDir.resolve("specs");
+        var specA = specsDir.resolve("svc-a/openapi.yaml");
+        var specB = specsDir.resolve("svc-b/openapi.yaml");
+        Files.createDirectories(specA.getParent());
+        Files.createDirectories(specB.getParent());
+        Files.copy(Path.of("src/test/resources/yaml/swagger_petstore.yaml"), specA);
+        Files.copy(Path.of("src/test/resources/yaml/swagger_petstore.yaml"), specB);
+
+        // the same default output file for both specs
+        assertThrows(IllegalArgumentException.class,
+            () -> OpenApiToAdocBatchConverter.convert(List.of(specA, specB), outputDir, Map.of(), 2));
+
+        var outputs = new LinkedHashMap<Path, Path>();
+        outputs.put(specA, outputDir.resolve("svc-a.adoc"));
+        outputs.put(specB, outputDir.resolve("docs/svc-b.adoc"));
+        var results = OpenApiToAdocBatchConverter.convert(outputs, Map.of(), 2);
+        assertEquals(2, results.size());
+        for (var result : results) {
+            assertNull(result.error());
+            assertEquals(outputs.get(result.spec()), result.output());
+            assertTrue(Files.exists(result.output()));
+        }
+    }
 }
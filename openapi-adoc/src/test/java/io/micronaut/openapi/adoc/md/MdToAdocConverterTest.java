@@ -0,0 +1,40 @@
+package io.micronaut.openapi.adoc.md;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.pegdown.Extensions;
+import org.pegdown.PegDownProcessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MdToAdocConverterTest {
+
+    @AfterEach
+    void cleanup() {
+        MdToAdocConverter.clearCache();
+    }
+
+    @Test
+    void testLeastRecentlyUsedTextsEvicted() {
+
+        MdToAdocConverter.clearCache();
+        var processor = new PegDownProcessor(Extensions.ALL);
+        for (int i = 0; i < MdToAdocConverter.MAX_CACHE_SIZE; i++) {
+            MdToAdocConverter.convert("text " + i, processor);
+        }
+        assertEquals(MdToAdocConverter.MAX_CACHE_SIZE, MdToAdocConverter.getCacheSize());
+
+        // recently used text is kept, the oldest one is removed
+        var converted = MdToAdocConverter.convert("text 0", processor);
+        MdToAdocConverter.convert("new text", processor);
+
+        assertEquals(MdToAdocConverter.MAX_CACHE_SIZE, MdToAdocConverter.getCacheSize());
+        assertTrue(MdToAdocConverter.isCached("text 0"));
+        assertTrue(MdToAdocConverter.isCached("new text"));
+        assertFalse(MdToAdocConverter.isCached("text 1"));
+        assertTrue(MdToAdocConverter.isCached("text 2"));
+        assertEquals(converted, MdToAdocConverter.convert("text 0"));
+    }
+}
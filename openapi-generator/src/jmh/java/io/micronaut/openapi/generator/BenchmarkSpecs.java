@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.openapitools.codegen.DefaultCodegen;
+
+/**
+ * Synthetic OpenAPI definitions for benchmarks.
+ * <p>
+ * Every resource has a component schema with inline enum, inline object and array of inline objects,
+ * a composed schema, and five CRUD operations with inline response schema, so all phases of the generator,
+ * including inline model resolution, have work to do.
+ */
+public final class BenchmarkSpecs {
+
+    /**
+     * Spec sizes: number of resources and resources per API (tag).
+     */
+    public static final Map<String, int[]> SIZES = Map.of(
+        "small", new int[] {5, 5},
+        "medium", new int[] {50, 10},
+        "huge", new int[] {250, 10}
+    );
+
+    private BenchmarkSpecs() {
+    }
+
+    /**
+     * Create OpenAPI object of given size.
+     *
+     * @param size one of {@link #SIZES} keys
+     *
+     * @return OpenAPI object
+     */
+    public static OpenAPI openApi(String size) {
+        var dims = SIZES.get(size);
+        int resourceCount = dims[0];
+        int resourcesPerTag = dims[1];
+
+        var schemas = new LinkedHashMap<String, Schema>();
+        var paths = new Paths();
+        for (int i = 0; i < resourceCount; i++) {
+            var name = "Resource" + i;
+            var ref = "#/components/schemas/" + name;
+
+            var schema = new ObjectSchema()
+                .description("Resource " + i)
+                .addProperty("id", new IntegerSchema().format("int64"))
+                .addProperty("name", new StringSchema().minLength(1).maxLength(100))
+                .addProperty("createdAt", new DateTimeSchema())
+                .addProperty("status", new StringSchema()._enum(List.of("active", "inactive", "archived")))
+                .addProperty("tags", new ArraySchema().items(new StringSchema()))
+                .addProperty("address", new ObjectSchema()
+                    .addProperty("street", new StringSchema())
+                    .addProperty("city", new StringSchema())
+                    .addProperty("zip", new StringSchema().pattern("^[0-9]{5}$")))
+                .addProperty("items", new ArraySchema().items(new ObjectSchema()
+                    .addProperty("sku", new StringSchema())
+                    .addProperty("quantity", new IntegerSchema().minimum(BigDecimal.ONE))))
+                .addProperty("metadata", new MapSchema().additionalProperties(new StringSchema()));
+            if (i > 0) {
+                schema.addProperty("parent", new Schema<>().$ref("#/components/schemas/Resource" + (i - 1)));
+            }
+            schema.setRequired(List.of("id", "name"));
+            schemas.put(name, schema);
+            schemas.put("Extended" + name, new ComposedSchema()
+                .addAllOfItem(new Schema<>().$ref(ref))
+                .addAllOfItem(new ObjectSchema().addProperty("extra", new StringSchema())));
+
+            var tag = "group" + (i / resourcesPerTag);
+            var content = new Content().addMediaType("application/json", new MediaType().schema(new Schema<>().$ref(ref)));
+            var listContent = new Content().addMediaType("application/json", new MediaType().schema(new ArraySchema().items(new Schema<>().$ref(ref))));
+            var envelopeContent = new Content().addMediaType("application/json", new MediaType().schema(new ObjectSchema()
+                .addProperty("data", new Schema<>().$ref(ref))
+                .addProperty("links", new ObjectSchema().addProperty("self", new StringSchema()))));
+            var id = new PathParameter().name("id").schema(new IntegerSchema().format("int64"));
+
+            paths.addPathItem("/resources" + i, new PathItem()
+                .get(new Operation()
+                    .operationId("list" + name)
+                    .addTagsItem(tag)
+                    .addParametersItem(new QueryParameter().name("page").schema(new IntegerSchema().minimum(BigDecimal.ZERO)))
+                    .addParametersItem(new QueryParameter().name("size").schema(new IntegerSchema()))
+                    .addParametersItem(new QueryParameter().name("sort").schema(new StringSchema()))
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK").content(listContent))))
+                .post(new Operation()
+                    .operationId("create" + name)
+                    .addTagsItem(tag)
+                    .requestBody(new RequestBody().required(true).content(content))
+                    .responses(new ApiResponses().addApiResponse("201", new ApiResponse().description("Created").content(content)))));
+            paths.addPathItem("/resources" + i + "/{id}", new PathItem()
+                .get(new Operation()
+                    .operationId("get" + name)
+                    .addTagsItem(tag)
+                    .addParametersItem(id)
+                    .responses(new ApiResponses()
+                        .addApiResponse("200", new ApiResponse().description("OK").content(envelopeContent))
+                        .addApiResponse("404", new ApiResponse().description("Not found"))))
+                .put(new Operation()
+                    .operationId("update" + name)
+                    .addTagsItem(tag)
+                    .addParametersItem(id)
+                    .requestBody(new RequestBody().required(true).content(content))
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK").content(content))))
+                .delete(new Operation()
+                    .operationId("delete" + name)
+                    .addTagsItem(tag)
+                    .addParametersItem(id)
+                    .responses(new ApiResponses().addApiResponse("204", new ApiResponse().description("Deleted")))));
+        }
+
+        return new OpenAPI()
+            .info(new Info().title("Benchmark " + size).version("1.0"))
+            .paths(paths)
+            .components(new Components().schemas(schemas));
+    }
+
+    /**
+     * Write OpenAPI definition of given size to JSON file.
+     *
+     * @param size one of {@link #SIZES} keys
+     * @param file target file
+     *
+     * @throws IOException if file can't be written
+     */
+    public static void write(String size, Path file) throws IOException {
+        Json.pretty().writeValue(file.toFile(), openApi(size));
+    }
+
+    /**
+     * Create client generator. Generator constructors are package-private, so benchmarks from other packages
+     * use this method.
+     *
+     * @param kotlin whether Kotlin generator is created
+     *
+     * @return client generator
+     */
+    public static DefaultCodegen clientCodegen(boolean kotlin) {
+        return kotlin ? new KotlinMicronautClientCodegen() : new JavaMicronautClientCodegen();
+    }
+}
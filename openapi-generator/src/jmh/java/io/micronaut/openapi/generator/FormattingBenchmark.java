@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for formatting lambdas used by generator templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormattingBenchmark {
+
+    /**
+     * Number of generated class members in the formatted section.
+     */
+    @Param({"10", "100", "1000"})
+    public int members;
+
+    private Template formatNoEmptyLines;
+    private Template formatOneEmptyLine;
+    private Template unformatted;
+    private Map<String, Object> context;
+
+    @Setup
+    public void setup() {
+        var body = new StringBuilder();
+        for (int i = 0; i < members; i++) {
+            // output of the model template: trailing spaces and several empty lines between members
+            body.append("    \n\n\n")
+                .append("    /**  \n")
+                .append("     * Property ").append(i).append(".   \n")
+                .append("     */\n")
+                .append("    @Nullable    \n\n")
+                .append("    @JsonProperty(\"property").append(i).append("\")   \n")
+                .append("    private String property").append(i).append(";  \n\n\n\n");
+        }
+        var compiler = Mustache.compiler();
+        formatNoEmptyLines = compiler.compile("{{#formatNoEmptyLines}}" + body + "{{/formatNoEmptyLines}}");
+        formatOneEmptyLine = compiler.compile("{{#formatOneEmptyLine}}" + body + "{{/formatOneEmptyLine}}");
+        unformatted = compiler.compile("{{#unformatted}}" + body + "{{/unformatted}}");
+        context = Map.of(
+            "formatNoEmptyLines", new Formatting.LineFormatter(0),
+            "formatOneEmptyLine", new Formatting.LineFormatter(1),
+            "unformatted", true
+        );
+    }
+
+    /**
+     * Section formatted without empty lines.
+     *
+     * @return formatted text
+     */
+    @Benchmark
+    public String formatNoEmptyLines() {
+        return formatNoEmptyLines.execute(context);
+    }
+
+    /**
+     * Section formatted with at most one empty line.
+     *
+     * @return formatted text
+     */
+    @Benchmark
+    public String formatOneEmptyLine() {
+        return formatOneEmptyLine.execute(context);
+    }
+
+    /**
+     * Baseline: the same section rendered without formatting.
+     *
+     * @return rendered text
+     */
+    @Benchmark
+    public String unformatted() {
+        return unformatted.execute(context);
+    }
+}
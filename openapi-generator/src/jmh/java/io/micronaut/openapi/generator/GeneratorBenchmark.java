@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end benchmarks of {@link MicronautCodeGeneratorEntryPoint}: models and APIs generation
+ * from a definition file to output directory.
+ * <p>
+ * Parsed definitions and compiled templates are cached JVM-wide and generated files are compared with existing ones,
+ * so measured iterations correspond to repeated generation in the same build daemon.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    @Param({"JAVA_CLIENT", "JAVA_SERVER", "KOTLIN_CLIENT", "KOTLIN_SERVER"})
+    public GeneratorKind generator;
+
+    @Param({"small", "medium", "huge"})
+    public String size;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private File workDir;
+    private File definitionFile;
+
+    @Setup
+    public void setup() throws IOException {
+        workDir = Files.createTempDirectory("generator-benchmark").toFile();
+        definitionFile = new File(workDir, "openapi.json");
+        BenchmarkSpecs.write(size, definitionFile.toPath());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDir);
+    }
+
+    /**
+     * Generate models and APIs.
+     *
+     * @return generation metrics
+     */
+    @Benchmark
+    public GeneratorMetrics generate() {
+        var builder = MicronautCodeGeneratorEntryPoint.builder();
+        switch (generator) {
+            case JAVA_CLIENT -> builder.forJavaClient(spec -> {
+            });
+            case JAVA_SERVER -> builder.forJavaServer(spec -> {
+            });
+            case KOTLIN_CLIENT -> builder.forKotlinClient(spec -> {
+            });
+            case KOTLIN_SERVER -> builder.forKotlinServer(spec -> {
+            });
+        }
+        return builder
+            .withOptions(options -> options.withParallelism(parallelism))
+            .withDefinitionFile(definitionFile.toURI())
+            .withOutputDirectory(new File(workDir, "generated"))
+            .withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind.MODELS, MicronautCodeGeneratorEntryPoint.OutputKind.APIS)
+            .build()
+            .generateWithMetrics();
+    }
+
+    /**
+     * Generator language and type.
+     */
+    public enum GeneratorKind {
+        JAVA_CLIENT,
+        JAVA_SERVER,
+        KOTLIN_CLIENT,
+        KOTLIN_SERVER,
+    }
+}
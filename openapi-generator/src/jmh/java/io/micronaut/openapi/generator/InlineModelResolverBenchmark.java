@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link MicronautInlineModelResolver#flatten()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InlineModelResolverBenchmark {
+
+    @Param({"small", "medium", "huge"})
+    public String size;
+
+    private byte[] definition;
+    private OpenAPI openApi;
+
+    @Setup
+    public void setup() throws IOException {
+        definition = Json.mapper().writeValueAsBytes(BenchmarkSpecs.openApi(size));
+    }
+
+    /**
+     * Resolver changes OpenAPI object, so every invocation gets a fresh copy. Even the small definition
+     * takes much longer to flatten than the invocation level setup overhead.
+     *
+     * @throws IOException if copy can't be read
+     */
+    @Setup(Level.Invocation)
+    public void copyDefinition() throws IOException {
+        openApi = Json.mapper().readValue(definition, OpenAPI.class);
+    }
+
+    /**
+     * Extract inline schemas of paths and components to separate models.
+     *
+     * @return flattened OpenAPI object
+     */
+    @Benchmark
+    public OpenAPI flatten() {
+        new MicronautInlineModelResolver(openApi).flatten();
+        return openApi;
+    }
+}
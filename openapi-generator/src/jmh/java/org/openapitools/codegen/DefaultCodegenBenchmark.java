@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openapitools.codegen;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.micronaut.openapi.generator.BenchmarkSpecs;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.utils.ModelUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link DefaultCodegen#fromModel(String, Schema)}: conversion of all component schemas
+ * of the flattened definition, as it's done by the models phase of the generator.
+ * <p>
+ * The benchmark is placed to the package of forked {@link DefaultCodegen}, so it can reset
+ * the schema to property cache, which is never cleared during the generator run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefaultCodegenBenchmark {
+
+    @Param({"JAVA", "KOTLIN"})
+    public String lang;
+
+    @Param({"small", "medium", "huge"})
+    public String size;
+
+    private DefaultCodegen codegen;
+    private Map<String, Schema> schemas;
+
+    @Setup
+    public void setup() {
+        codegen = BenchmarkSpecs.clientCodegen("KOTLIN".equals(lang));
+        codegen.processOpts();
+        var openApi = BenchmarkSpecs.openApi(size);
+        codegen.preprocessOpenAPI(openApi);
+        codegen.setOpenAPI(openApi);
+        schemas = ModelUtils.getSchemas(openApi);
+    }
+
+    /**
+     * Convert all schemas with empty property cache.
+     *
+     * @param blackhole consumer of created models
+     */
+    @Benchmark
+    public void fromModel(Blackhole blackhole) {
+        codegen.schemaCodegenPropertyCache.clear();
+        for (var entry : schemas.entrySet()) {
+            blackhole.consume(codegen.fromModel(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /**
+     * Convert all schemas again, properties are taken from the cache filled by previous invocations.
+     *
+     * @param blackhole consumer of created models
+     */
+    @Benchmark
+    public void fromModelCachedProperties(Blackhole blackhole) {
+        for (var entry : schemas.entrySet()) {
+            blackhole.consume(codegen.fromModel(entry.getKey(), entry.getValue()));
+        }
+    }
+}
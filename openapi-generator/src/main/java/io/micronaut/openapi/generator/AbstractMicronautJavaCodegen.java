@@ -136,6 +136,7 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
     public static final String OPT_DATE_TIME_FORMAT = "dateTimeFormat";
     public static final String OPT_USE_ENUM_CASE_INSENSITIVE = "useEnumCaseInsensitive";
     public static final String OPT_REACTIVE = "reactive";
+    public static final String OPT_COMPLETABLE_FUTURE = "completableFuture";
     public static final String OPT_GENERATE_HTTP_RESPONSE_ALWAYS = "generateHttpResponseAlways";
     public static final String OPT_GENERATE_HTTP_RESPONSE_WHERE_REQUIRED = "generateHttpResponseWhereRequired";
     public static final String OPT_APPLICATION_NAME = "applicationName";
@@ -153,6 +154,7 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
 
     private static final String MONO_CLASS_NAME = "reactor.core.publisher.Mono";
     private static final String FLUX_CLASS_NAME = "reactor.core.publisher.Flux";
+    private static final String COMPLETABLE_FUTURE_CLASS_NAME = "java.util.concurrent.CompletableFuture";
 
     protected SecureRandom random = new SecureRandom();
     protected String title;
@@ -165,6 +167,7 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
     protected String testTool;
     protected boolean requiredPropertiesInConstructor = true;
     protected boolean reactive;
+    protected boolean completableFuture;
     protected boolean useEnumCaseInsensitive;
     protected boolean generateHttpResponseAlways;
     protected boolean generateHttpResponseWhereRequired = true;
@@ -268,6 +271,7 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         cliOptions.add(CliOption.newBoolean(OPT_VISITABLE, "Generate visitor for subtypes with a discriminator", visitable));
         cliOptions.add(CliOption.newBoolean(OPT_REQUIRED_PROPERTIES_IN_CONSTRUCTOR, "Allow only to create models with all the required properties provided in constructor", requiredPropertiesInConstructor));
         cliOptions.add(CliOption.newBoolean(OPT_REACTIVE, "Make the responses use Reactor Mono as wrapper", reactive));
+        cliOptions.add(CliOption.newBoolean(OPT_COMPLETABLE_FUTURE, "Make the responses use CompletableFuture as wrapper instead of Reactor types. If true, reactive option is ignored", completableFuture));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_HTTP_RESPONSE_ALWAYS, "Always wrap the operations response in HttpResponse object", generateHttpResponseAlways));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_HTTP_RESPONSE_WHERE_REQUIRED, "Wrap the operations response in HttpResponse object where non-200 HTTP status codes or additional headers are defined", generateHttpResponseWhereRequired));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_OPERATION_ONLY_FOR_FIRST_TAG, "When false, the operation method will be duplicated in each of the tags if multiple tags are assigned to this operation. " +
@@ -349,6 +353,10 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         this.reactive = reactive;
     }
 
+    public void setCompletableFuture(boolean completableFuture) {
+        this.completableFuture = completableFuture;
+    }
+
     public void setTestTool(String testTool) {
         this.testTool = testTool;
     }
@@ -514,7 +522,14 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
         if (additionalProperties.containsKey(OPT_REACTIVE)) {
             reactive = convertPropertyToBoolean(OPT_REACTIVE);
         }
+        if (additionalProperties.containsKey(OPT_COMPLETABLE_FUTURE)) {
+            completableFuture = convertPropertyToBoolean(OPT_COMPLETABLE_FUTURE);
+        }
+        if (completableFuture) {
+            reactive = false;
+        }
         writePropertyBack(OPT_REACTIVE, reactive);
+        writePropertyBack(OPT_COMPLETABLE_FUTURE, completableFuture);
 
         if (additionalProperties.containsKey(OPT_DATE_FORMAT)) {
             dateFormat = (String) additionalProperties.get(OPT_DATE_FORMAT);
@@ -1789,6 +1804,8 @@ public abstract class AbstractMicronautJavaCodegen<T extends GeneratorOptionsBui
 
         if (reactive) {
             wrapOperationReturnType(op, MONO_CLASS_NAME, false, false);
+        } else if (completableFuture) {
+            wrapOperationReturnType(op, COMPLETABLE_FUTURE_CLASS_NAME, false, false);
         }
     }
 
@@ -139,6 +139,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
     public static final String OPT_DATE_FORMAT = "dateFormat";
     public static final String OPT_DATE_TIME_FORMAT = "dateTimeFormat";
     public static final String OPT_REACTIVE = "reactive";
+    public static final String OPT_COROUTINES = "coroutines";
     public static final String OPT_GENERATE_HTTP_RESPONSE_ALWAYS = "generateHttpResponseAlways";
     public static final String OPT_GENERATE_HTTP_RESPONSE_WHERE_REQUIRED = "generateHttpResponseWhereRequired";
     public static final String OPT_APPLICATION_NAME = "applicationName";
@@ -160,6 +161,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
 
     private static final String MONO_CLASS_NAME = "reactor.core.publisher.Mono";
     private static final String FLUX_CLASS_NAME = "reactor.core.publisher.Flux";
+    private static final String FLOW_CLASS_NAME = "kotlinx.coroutines.flow.Flow";
 
     protected SecureRandom random = new SecureRandom();
     protected String dateLibrary;
@@ -172,6 +174,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
     protected String testTool;
     protected boolean requiredPropertiesInConstructor = true;
     protected boolean reactive;
+    protected boolean coroutines;
     protected boolean generateHttpResponseAlways;
     protected boolean generateHttpResponseWhereRequired = true;
     protected boolean useEnumCaseInsensitive;
@@ -313,6 +316,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         cliOptions.add(CliOption.newBoolean(OPT_VISITABLE, "Generate visitor for subtypes with a discriminator", visitable));
         cliOptions.add(CliOption.newBoolean(OPT_REQUIRED_PROPERTIES_IN_CONSTRUCTOR, "Allow only to create models with all the required properties provided in constructor", requiredPropertiesInConstructor));
         cliOptions.add(CliOption.newBoolean(OPT_REACTIVE, "Make the responses use Reactor Mono as wrapper", reactive));
+        cliOptions.add(CliOption.newBoolean(OPT_COROUTINES, "Generate suspend functions and Flow<?> for arrays instead of Reactor types. If set to true, reactive option is ignored", coroutines));
         cliOptions.add(CliOption.newBoolean(OPT_IMPLICIT_HEADERS, "Skip header parameters in the generated API methods using @ApiImplicitParams annotation.", implicitHeaders));
         cliOptions.add(CliOption.newString(OPT_IMPLICIT_HEADERS_REGEX, "Skip header parameters that matches given regex in the generated API methods using @ApiImplicitParams annotation. Note: this parameter is ignored when implicitHeaders=true"));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_HTTP_RESPONSE_ALWAYS, "Always wrap the operations response in HttpResponse object", generateHttpResponseAlways));
@@ -427,6 +431,10 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         this.reactive = reactive;
     }
 
+    public void setCoroutines(boolean coroutines) {
+        this.coroutines = coroutines;
+    }
+
     public void setImplicitHeaders(boolean implicitHeaders) {
         this.implicitHeaders = implicitHeaders;
     }
@@ -572,6 +580,14 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
         if (additionalProperties.containsKey(OPT_REACTIVE)) {
             reactive = convertPropertyToBoolean(OPT_REACTIVE);
         }
+        if (additionalProperties.containsKey(OPT_COROUTINES)) {
+            coroutines = convertPropertyToBoolean(OPT_COROUTINES);
+        }
+        writePropertyBack(OPT_COROUTINES, coroutines);
+        // coroutines replace Reactor wrappers
+        if (coroutines) {
+            reactive = false;
+        }
         writePropertyBack(OPT_REACTIVE, reactive);
 
         if (additionalProperties.containsKey(OPT_DATE_FORMAT)) {
@@ -1735,6 +1751,14 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
 
         if (reactive) {
             wrapOperationReturnType(op, MONO_CLASS_NAME, false, false);
+        } else if (coroutines) {
+            // arrays are streamed with Flow, other responses are returned from suspend functions
+            if (op.isArray && op.returnProperty != null && op.returnProperty.items != null) {
+                wrapOperationReturnType(op, FLOW_CLASS_NAME, false, true);
+                op.vendorExtensions.put("isReturnFlow", true);
+            } else {
+                op.vendorExtensions.put("isSuspend", true);
+            }
         }
     }
 
@@ -2285,7 +2309,7 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
             }
         }
 
-        if ("List".equals(containerType)) {
+        if ("List".equals(containerType) || "Flow".equals(containerType)) {
             String innerExample;
             if ("String".equals(itemsType)) {
                 itemsExample = itemsExample != null ? itemsExample : "example";
@@ -2294,10 +2318,11 @@ public abstract class AbstractMicronautKotlinCodegen<T extends GeneratorOptionsB
                 innerExample = itemsExample != null ? itemsExample : "";
             }
 
+            var factory = "Flow".equals(containerType) ? "flowOf" : "listOf";
             if (StringUtils.isNotEmpty(innerExample)) {
-                example = "listOf(" + innerExample + ")";
+                example = factory + "(" + innerExample + ")";
             } else {
-                example = "listOf<" + itemsType + ">()";
+                example = factory + "<" + itemsType + ">()";
             }
         } else if ("Set".equals(containerType)) {
             example = "HashSet<Any>()";
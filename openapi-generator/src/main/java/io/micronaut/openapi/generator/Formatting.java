@@ -21,7 +21,6 @@ import com.samskivert.mustache.Template;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.Arrays;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -87,44 +86,159 @@ public enum Formatting {
 
         @Override
         public void execute(Template.Fragment fragment, Writer writer) throws IOException {
-            String text = fragment.execute();
-            String finalWhitespace = getFinalWhitespace(text);
+            var formattingWriter = new LineFormattingWriter(writer, maxEmptyLines);
+            fragment.execute(formattingWriter);
+            formattingWriter.finish();
+        }
+    }
 
-            String lines =
-                Arrays.stream(text.split("\n"))
-                    .map(Formatting::rightTrim)
-                    .filter(new LineSkippingPredicate())
-                    .collect(Collectors.joining("\n"));
-            if (!lines.isEmpty() && maxEmptyLines == 0) {
-                lines = "\n" + lines + "\n";
+    /**
+     * Single pass implementation of {@link LineFormatter}: lines are right-trimmed, empty lines
+     * over the limit are skipped and the result is written to the target writer without intermediate strings.
+     * <p>
+     * The result is the same as splitting the text by new lines (trailing empty lines are dropped), right-trimming
+     * every line, skipping empty lines over the limit and joining lines back. With no empty lines allowed the result
+     * is surrounded by new lines. Whitespace after the last new line of the text is kept.
+     */
+    static final class LineFormattingWriter extends Writer {
+
+        private final Writer out;
+        private final int maxEmptyLines;
+        // whitespace of the current line, written only if followed by not whitespace character
+        private final StringBuilder whitespace = new StringBuilder();
+
+        private int emptyLines;
+        // empty lines without any characters, they are dropped if there is nothing else till the end of text
+        private int pendingEmptyLines;
+        private boolean lineStarted;
+        private boolean lineBlank = true;
+        private boolean anyLine;
+        private boolean started;
+
+        LineFormattingWriter(Writer out, int maxEmptyLines) {
+            this.out = out;
+            this.maxEmptyLines = maxEmptyLines;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                write(cbuf[i]);
             }
-            if (!lines.isEmpty()) {
-                lines = lines + finalWhitespace;
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++) {
+                write(str.charAt(i));
             }
-            writer.write(lines);
         }
 
-        private String getFinalWhitespace(String text) {
-            int i = text.length();
-            while (i > 0 && Character.isWhitespace(text.charAt(i - 1)) && text.charAt(i - 1) != '\n') {
-                --i;
+        @Override
+        public void write(int c) throws IOException {
+            write((char) c);
+        }
+
+        private void write(char c) throws IOException {
+            if (c == '\n') {
+                endLine();
+                return;
+            }
+            lineStarted = true;
+            if (Character.isWhitespace(c)) {
+                whitespace.append(c);
+                return;
             }
-            return text.substring(i);
+            if (lineBlank) {
+                lineBlank = false;
+                flushPendingEmptyLines();
+                emptyLines = 0;
+                nextLine();
+            }
+            if (!whitespace.isEmpty()) {
+                emit(whitespace);
+                whitespace.setLength(0);
+            }
+            emit(c);
         }
 
-        private class LineSkippingPredicate implements Predicate<String> {
-            private int emptyLines;
+        /**
+         * Write the rest of formatted text. Must be called after the whole fragment is written.
+         *
+         * @throws IOException if writing fails
+         */
+        void finish() throws IOException {
+            if (lineStarted && lineBlank) {
+                flushPendingEmptyLines();
+                emptyLine();
+            }
+            if (started) {
+                if (maxEmptyLines == 0) {
+                    out.write('\n');
+                }
+                out.append(whitespace);
+            }
+        }
 
-            @Override
-            public boolean test(String s) {
-                if (s.isBlank()) {
-                    ++emptyLines;
-                } else {
-                    emptyLines = 0;
+        private void endLine() throws IOException {
+            if (!lineStarted) {
+                ++pendingEmptyLines;
+            } else if (lineBlank) {
+                flushPendingEmptyLines();
+                emptyLine();
+            }
+            whitespace.setLength(0);
+            lineStarted = false;
+            lineBlank = true;
+        }
+
+        private void flushPendingEmptyLines() throws IOException {
+            for (; pendingEmptyLines > 0; --pendingEmptyLines) {
+                emptyLine();
+            }
+        }
+
+        private void emptyLine() throws IOException {
+            if (++emptyLines <= maxEmptyLines) {
+                nextLine();
+            }
+        }
+
+        private void nextLine() throws IOException {
+            if (anyLine) {
+                emit('\n');
+            }
+            anyLine = true;
+        }
+
+        private void emit(char c) throws IOException {
+            start();
+            out.write(c);
+        }
+
+        private void emit(CharSequence text) throws IOException {
+            start();
+            out.append(text);
+        }
+
+        private void start() throws IOException {
+            if (!started) {
+                started = true;
+                if (maxEmptyLines == 0) {
+                    out.write('\n');
                 }
-                return emptyLines <= maxEmptyLines;
             }
         }
+
+        @Override
+        public void flush() {
+            // nothing to flush, all characters are written to the target writer immediately
+        }
+
+        @Override
+        public void close() {
+            // target writer is owned by the caller
+        }
     }
 
     /**
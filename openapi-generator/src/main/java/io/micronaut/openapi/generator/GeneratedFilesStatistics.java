@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+/**
+ * Statistics of generated files.
+ *
+ * @param written number of created or changed files
+ * @param unchanged number of files with unchanged content, which were not rewritten
+ * @param deleted number of deleted stale files, which are not generated anymore
+ *
+ * @since 6.13.1
+ */
+public record GeneratedFilesStatistics(
+    int written,
+    int unchanged,
+    int deleted
+) {
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.util.Map;
+
+/**
+ * Timings and counters of one generator run.
+ * <p>
+ * Phases are measured by wall clock and don't overlap: {@code parse}, {@code configure}, {@code normalize},
+ * {@code preprocess} (inline model resolution and generator preprocessing), {@code models}, {@code apis},
+ * {@code webhooks}, {@code supportingFiles}, {@code metadata} and {@code postProcess}. Model and API conversion,
+ * template rendering and writing are summed over all calls, so with parallel rendering they can exceed the wall time
+ * of the phase.
+ *
+ * @param totalMillis total generation time
+ * @param phases phase durations in milliseconds, in execution order
+ * @param schemas number of converted schemas ({@code fromModel} calls)
+ * @param fromModelMillis time spent in {@code fromModel}
+ * @param operations number of converted operations ({@code fromOperation} calls)
+ * @param fromOperationMillis time spent in {@code fromOperation}
+ * @param renderMillis time spent in template rendering, without writing
+ * @param writeMillis time spent in writing files, including comparing with existing files
+ * @param files written, unchanged and deleted files
+ * @param skippedFiles number of files skipped by options or ignored by ignore file
+ * @param sanitizedNameCacheHits hits of sanitized names cache. The cache is JVM-wide, so concurrent runs affect this value
+ * @param sanitizedNameCacheMisses misses of sanitized names cache
+ * @param propertyCacheHits hits of schema to codegen property cache
+ * @param propertyCacheMisses misses of schema to codegen property cache
+ *
+ * @since 6.13.1
+ */
+public record GeneratorMetrics(
+    long totalMillis,
+    Map<String, Long> phases,
+    int schemas,
+    long fromModelMillis,
+    int operations,
+    long fromOperationMillis,
+    long renderMillis,
+    long writeMillis,
+    GeneratedFilesStatistics files,
+    int skippedFiles,
+    long sanitizedNameCacheHits,
+    long sanitizedNameCacheMisses,
+    long propertyCacheHits,
+    long propertyCacheMisses
+) {
+}
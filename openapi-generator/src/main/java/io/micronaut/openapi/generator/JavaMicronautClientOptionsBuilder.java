@@ -95,6 +95,16 @@ public interface JavaMicronautClientOptionsBuilder extends GeneratorOptionsBuild
      */
     JavaMicronautClientOptionsBuilder withFluxForArrays(boolean fluxForArrays);
 
+    /**
+     * If set to true, generated code will return CompletableFuture{@literal <}?> instead of Reactor types.
+     * Reactive option is ignored in this case.
+     *
+     * @param completableFuture generate code with CompletableFuture{@literal <}?> or not
+     *
+     * @return this builder
+     */
+    JavaMicronautClientOptionsBuilder withCompletableFuture(boolean completableFuture);
+
     /**
      * If set to true, generated code will be with jakarta.annotation.Generated annotation.
      *
@@ -46,6 +46,7 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
     public static final String OPT_GENERATE_HARD_NULLABLE = "generateHardNullable";
     public static final String OPT_GENERATE_STREAMING_FILE_UPLOAD = "generateStreamingFileUpload";
     public static final String OPT_AOT = "aot";
+    public static final String OPT_EXECUTE_ON = "executeOn";
 
     public static final String EXTENSION_ROLES = "x-roles";
     public static final String ANONYMOUS_ROLE_KEY = "isAnonymous()";
@@ -71,6 +72,7 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
     protected boolean generateHardNullable = true;
     protected boolean generateStreamingFileUpload;
     protected boolean aot;
+    protected String executeOn;
 
     JavaMicronautServerCodegen() {
 
@@ -97,6 +99,7 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_HARD_NULLABLE, "Whether to generate and use an inherited nullable annotation", generateHardNullable));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_STREAMING_FILE_UPLOAD, "Whether to generate StreamingFileUpload type for file request body", generateStreamingFileUpload));
         cliOptions.add(CliOption.newBoolean(OPT_AOT, "Generate compatible code with micronaut-aot", aot));
+        cliOptions.add(CliOption.newString(OPT_EXECUTE_ON, "Executor for @ExecuteOn annotation of blocking controller methods: io, blocking, virtual, scheduled, consumer or name of custom executor. Operations can override it with x-execute-on extension"));
 
         setApiNamePrefix(API_PREFIX);
         setApiNameSuffix(API_SUFFIX);
@@ -146,6 +149,10 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         this.useAuth = useAuth;
     }
 
+    public void setExecuteOn(String executeOn) {
+        this.executeOn = executeOn;
+    }
+
     @Override
     public void processOpts() {
         super.processOpts();
@@ -187,6 +194,10 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         }
         writePropertyBack(OPT_AOT, aot);
 
+        if (additionalProperties.containsKey(OPT_EXECUTE_ON)) {
+            executeOn = (String) additionalProperties.get(OPT_EXECUTE_ON);
+        }
+
         if (additionalProperties.containsKey(OPT_GENERATE_HARD_NULLABLE)) {
             generateHardNullable = convertPropertyToBoolean(OPT_GENERATE_HARD_NULLABLE);
         }
@@ -282,6 +293,7 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         objs.put("controllerClassname", controllerClassname);
 
         var allOperations = (List<CodegenOperation>) operations.get("operation");
+        Utils.processExecuteOn(allOperations, objs.getImports(), executeOn, !reactive && !completableFuture, false);
         if (useAuth) {
             for (CodegenOperation operation : allOperations) {
                 if (!operation.vendorExtensions.containsKey(EXTENSION_ROLES)) {
@@ -333,8 +345,10 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         private boolean lombok;
         private boolean plural = true;
         private boolean fluxForArrays;
+        private boolean completableFuture;
         private boolean generatedAnnotation = true;
         private boolean aot;
+        private String executeOn;
 
         @Override
         public JavaMicronautServerOptionsBuilder withControllerPackage(String controllerPackage) {
@@ -384,6 +398,12 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
             return this;
         }
 
+        @Override
+        public JavaMicronautServerOptionsBuilder withCompletableFuture(boolean completableFuture) {
+            this.completableFuture = completableFuture;
+            return this;
+        }
+
         @Override
         public JavaMicronautServerOptionsBuilder withGeneratedAnnotation(boolean generatedAnnotation) {
             this.generatedAnnotation = generatedAnnotation;
@@ -396,6 +416,12 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
             return this;
         }
 
+        @Override
+        public JavaMicronautServerOptionsBuilder withExecuteOn(String executeOn) {
+            this.executeOn = executeOn;
+            return this;
+        }
+
         ServerOptions build() {
             return new ServerOptions(
                 controllerPackage,
@@ -406,8 +432,10 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
                 lombok,
                 plural,
                 fluxForArrays,
+                completableFuture,
                 generatedAnnotation,
-                aot
+                aot,
+                executeOn
             );
         }
     }
@@ -421,8 +449,10 @@ public class JavaMicronautServerCodegen extends AbstractMicronautJavaCodegen<Jav
         boolean lombok,
         boolean plural,
         boolean fluxForArrays,
+        boolean completableFuture,
         boolean generatedAnnotation,
-        boolean aot
+        boolean aot,
+        String executeOn
     ) {
     }
 }
@@ -93,6 +93,16 @@ public interface JavaMicronautServerOptionsBuilder extends GeneratorOptionsBuild
      */
     JavaMicronautServerOptionsBuilder withFluxForArrays(boolean fluxForArrays);
 
+    /**
+     * If set to true, generated code will return CompletableFuture{@literal <}?> instead of Reactor types.
+     * Reactive option is ignored in this case.
+     *
+     * @param completableFuture generate code with CompletableFuture{@literal <}?> or not
+     *
+     * @return this builder
+     */
+    JavaMicronautServerOptionsBuilder withCompletableFuture(boolean completableFuture);
+
     /**
      * If set to true, generated code will be with jakarta.annotation.Generated annotation.
      *
@@ -110,4 +120,16 @@ public interface JavaMicronautServerOptionsBuilder extends GeneratorOptionsBuild
      * @return this builder
      */
     JavaMicronautServerOptionsBuilder withAot(boolean aot);
+
+    /**
+     * Sets the executor for {@literal @}ExecuteOn annotation of blocking controller methods. Standard executor names
+     * ({@code io}, {@code blocking}, {@code virtual}, {@code scheduled}, {@code consumer}) are generated as TaskExecutors constants,
+     * other names are generated as string literals.
+     * Operations can override the executor with {@code x-execute-on} extension.
+     *
+     * @param executeOn executor name
+     *
+     * @return this builder
+     */
+    JavaMicronautServerOptionsBuilder withExecuteOn(String executeOn);
 }
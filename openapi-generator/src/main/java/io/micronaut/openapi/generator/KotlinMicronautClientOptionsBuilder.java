@@ -77,6 +77,16 @@ public interface KotlinMicronautClientOptionsBuilder extends GeneratorOptionsBui
      */
     KotlinMicronautClientOptionsBuilder withFluxForArrays(boolean fluxForArrays);
 
+    /**
+     * If set to true, generated code will use Kotlin coroutines: suspend functions for single responses
+     * and Flow{@literal <}?> for arrays. Reactor types aren't used in this case.
+     *
+     * @param coroutines generate code with suspend functions and Flow{@literal <}?> or not
+     *
+     * @return this builder
+     */
+    KotlinMicronautClientOptionsBuilder withCoroutines(boolean coroutines);
+
     /**
      * If set to true, the generated code will pluralize parameters and properties for arrays.
      *
@@ -45,6 +45,7 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
     public static final String OPT_GENERATE_OPERATIONS_TO_RETURN_NOT_IMPLEMENTED = "generateOperationsToReturnNotImplemented";
     public static final String OPT_GENERATE_STREAMING_FILE_UPLOAD = "generateStreamingFileUpload";
     public static final String OPT_AOT = "aot";
+    public static final String OPT_EXECUTE_ON = "executeOn";
 
     public static final String EXTENSION_ROLES = "x-roles";
     public static final String ANONYMOUS_ROLE_KEY = "isAnonymous()";
@@ -69,6 +70,7 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
     protected boolean useAuth = true;
     protected boolean generateStreamingFileUpload;
     protected boolean aot;
+    protected String executeOn;
 
     KotlinMicronautServerCodegen() {
 
@@ -94,6 +96,7 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         cliOptions.add(CliOption.newBoolean(OPT_USE_AUTH, "Whether to import authorization and to annotate controller methods accordingly", useAuth));
         cliOptions.add(CliOption.newBoolean(OPT_GENERATE_STREAMING_FILE_UPLOAD, "Whether to generate StreamingFileUpload type for file request body", generateStreamingFileUpload));
         cliOptions.add(CliOption.newBoolean(OPT_AOT, "Generate compatible code with micronaut-aot", aot));
+        cliOptions.add(CliOption.newString(OPT_EXECUTE_ON, "Executor for @ExecuteOn annotation of blocking controller methods: io, blocking, virtual, scheduled, consumer or name of custom executor. Operations can override it with x-execute-on extension"));
 
         setApiNamePrefix(API_PREFIX);
         setApiNameSuffix(API_SUFFIX);
@@ -143,6 +146,10 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         this.useAuth = useAuth;
     }
 
+    public void setExecuteOn(String executeOn) {
+        this.executeOn = executeOn;
+    }
+
     @Override
     public void processOpts() {
         super.processOpts();
@@ -184,6 +191,10 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         }
         writePropertyBack(OPT_AOT, aot);
 
+        if (additionalProperties.containsKey(OPT_EXECUTE_ON)) {
+            executeOn = (String) additionalProperties.get(OPT_EXECUTE_ON);
+        }
+
         if (additionalProperties.containsKey(OPT_GENERATE_STREAMING_FILE_UPLOAD)) {
             generateStreamingFileUpload = convertPropertyToBoolean(OPT_GENERATE_STREAMING_FILE_UPLOAD);
         }
@@ -267,6 +278,7 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         objs.put("controllerClassname", controllerClassname);
 
         var allOperations = (List<CodegenOperation>) operations.get("operation");
+        Utils.processExecuteOn(allOperations, objs.getImports(), executeOn, !reactive && !coroutines, true);
         if (useAuth) {
             for (CodegenOperation operation : allOperations) {
                 if (!operation.vendorExtensions.containsKey(EXTENSION_ROLES)) {
@@ -317,8 +329,10 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         private boolean plural = true;
         private boolean useAuth = true;
         private boolean fluxForArrays;
+        private boolean coroutines;
         private boolean generatedAnnotation = true;
         private boolean aot;
+        private String executeOn;
         private boolean ksp;
 
         @Override
@@ -357,6 +371,12 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
             return this;
         }
 
+        @Override
+        public KotlinMicronautServerOptionsBuilder withCoroutines(boolean coroutines) {
+            this.coroutines = coroutines;
+            return this;
+        }
+
         @Override
         public KotlinMicronautServerOptionsBuilder withPlural(boolean plural) {
             this.plural = plural;
@@ -375,6 +395,12 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
             return this;
         }
 
+        @Override
+        public KotlinMicronautServerOptionsBuilder withExecuteOn(String executeOn) {
+            this.executeOn = executeOn;
+            return this;
+        }
+
         @Override
         public KotlinMicronautServerOptionsBuilder withKsp(boolean ksp) {
             this.ksp = ksp;
@@ -390,9 +416,11 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
                 useAuth,
                 plural,
                 fluxForArrays,
+                coroutines,
                 generatedAnnotation,
                 aot,
-                ksp
+                ksp,
+                executeOn
             );
         }
     }
@@ -405,9 +433,11 @@ public class KotlinMicronautServerCodegen extends AbstractMicronautKotlinCodegen
         boolean useAuth,
         boolean plural,
         boolean fluxForArrays,
+        boolean coroutines,
         boolean generatedAnnotation,
         boolean aot,
-        boolean ksp
+        boolean ksp,
+        String executeOn
     ) {
     }
 }
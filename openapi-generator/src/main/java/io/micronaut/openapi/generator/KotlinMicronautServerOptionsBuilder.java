@@ -75,6 +75,16 @@ public interface KotlinMicronautServerOptionsBuilder extends GeneratorOptionsBui
      */
     KotlinMicronautServerOptionsBuilder withFluxForArrays(boolean fluxForArrays);
 
+    /**
+     * If set to true, generated code will use Kotlin coroutines: suspend functions for single responses
+     * and Flow{@literal <}?> for arrays. Reactor types aren't used in this case.
+     *
+     * @param coroutines generate code with suspend functions and Flow{@literal <}?> or not
+     *
+     * @return this builder
+     */
+    KotlinMicronautServerOptionsBuilder withCoroutines(boolean coroutines);
+
     /**
      * If set to true, the generated code will pluralize parameters and properties for arrays.
      *
@@ -102,6 +112,18 @@ public interface KotlinMicronautServerOptionsBuilder extends GeneratorOptionsBui
      */
     KotlinMicronautServerOptionsBuilder withAot(boolean aot);
 
+    /**
+     * Sets the executor for {@literal @}ExecuteOn annotation of blocking controller methods. Standard executor names
+     * ({@code io}, {@code blocking}, {@code virtual}, {@code scheduled}, {@code consumer}) are generated as TaskExecutors constants,
+     * other names are generated as string literals.
+     * Operations can override the executor with {@code x-execute-on} extension.
+     *
+     * @param executeOn executor name
+     *
+     * @return this builder
+     */
+    KotlinMicronautServerOptionsBuilder withExecuteOn(String executeOn);
+
     /**
      * If set to true, generated code will be fully compatible with KSP, but not 100% with KAPT.
      *
@@ -16,7 +16,7 @@
 package io.micronaut.openapi.generator;
 
 import io.micronaut.openapi.generator.MicronautCodeGeneratorOptionsBuilder.GeneratorLanguage;
-import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.CodegenConstants;
@@ -26,8 +26,10 @@ import org.openapitools.codegen.DefaultGenerator;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -82,16 +84,38 @@ public final class MicronautCodeGeneratorEntryPoint {
     }
 
     /**
-     * Performs code generation.
+     * Performs code generation. Metrics are collected only if metrics file is configured.
      */
     public void generate() {
+        generate(options != null && options.metricsFile != null);
+    }
+
+    /**
+     * Performs code generation and returns its metrics. If metrics file is configured,
+     * metrics are also written to it in JSON format.
+     *
+     * @return generation metrics
+     */
+    public GeneratorMetrics generateWithMetrics() {
+        return generate(true);
+    }
+
+    private GeneratorMetrics generate(boolean metricsEnabled) {
+        var phases = new LinkedHashMap<String, Long>();
+        long phaseStart = System.nanoTime();
+
         var opts = new ParseOptions();
         opts.setResolve(true);
-        var openAPI = new OpenAPIParser()
-            .readLocation(definitionFile.toString(), null, opts).getOpenAPI();
+        var openAPI = OpenApiDefinitionCache.parse(definitionFile, opts);
+        long now = System.nanoTime();
+        phases.put("parse", now - phaseStart);
+        phaseStart = now;
 
         // Configure codegen
         withPath(outputDirectory, codeGenerator::setOutputDir);
+        if (codeGenerator.getInputSpec() == null) {
+            codeGenerator.setInputSpec(definitionFile.toString());
+        }
 
         // Disable timestamps are it makes builds non preproducible
         if (codeGenerator instanceof AbstractMicronautJavaCodegen<?> javaCodegen) {
@@ -101,6 +125,7 @@ public final class MicronautCodeGeneratorEntryPoint {
         }
 
         configureOptions();
+        phases.put("configure", System.nanoTime() - phaseStart);
 
         // Create input
         var input = new ClientOptInput();
@@ -115,8 +140,33 @@ public final class MicronautCodeGeneratorEntryPoint {
         for (OutputKind outputKind : outputs) {
             generator.setGeneratorPropertyDefault(outputKind.generatorProperty, "true");
         }
+        if (options != null) {
+            generator.setParallelism(options.parallelism);
+        }
+        generator.setMetricsEnabled(metricsEnabled);
 
         generator.opts(input).generate();
+
+        if (!metricsEnabled) {
+            return null;
+        }
+        var metrics = generator.getMetrics(phases);
+        if (options != null && options.metricsFile != null) {
+            writeMetrics(metrics, options.metricsFile);
+        }
+        return metrics;
+    }
+
+    private static void writeMetrics(GeneratorMetrics metrics, File metricsFile) {
+        try {
+            var parent = metricsFile.getParentFile();
+            if (parent != null) {
+                Files.createDirectories(parent.toPath());
+            }
+            Json.pretty().writeValue(metricsFile, metrics);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write generation metrics to " + metricsFile, e);
+        }
     }
 
     private void configureOptions() {
@@ -334,7 +384,9 @@ public final class MicronautCodeGeneratorEntryPoint {
             javaServerCodegen.setLombok(javaServerOptions.lombok());
             javaServerCodegen.setPlural(javaServerOptions.plural());
             javaServerCodegen.setFluxForArrays(javaServerOptions.fluxForArrays());
+            javaServerCodegen.setCompletableFuture(javaServerOptions.completableFuture());
             javaServerCodegen.setGeneratedAnnotation(javaServerOptions.generatedAnnotation());
+            javaServerCodegen.setExecuteOn(javaServerOptions.executeOn());
         }
     }
 
@@ -357,6 +409,7 @@ public final class MicronautCodeGeneratorEntryPoint {
             javaClientCodegen.setConfigureAuthorization(javaClientOptions.useAuth());
             javaClientCodegen.setPlural(javaClientOptions.plural());
             javaClientCodegen.setFluxForArrays(javaClientOptions.fluxForArrays());
+            javaClientCodegen.setCompletableFuture(javaClientOptions.completableFuture());
             javaClientCodegen.setLombok(javaClientOptions.lombok());
         }
     }
@@ -374,6 +427,8 @@ public final class MicronautCodeGeneratorEntryPoint {
             kotlinServerCodegen.setUseAuth(kotlinServerOptions.useAuth());
             kotlinServerCodegen.setPlural(kotlinServerOptions.plural());
             kotlinServerCodegen.setFluxForArrays(kotlinServerOptions.fluxForArrays());
+            kotlinServerCodegen.setCoroutines(kotlinServerOptions.coroutines());
+            kotlinServerCodegen.setExecuteOn(kotlinServerOptions.executeOn());
         }
     }
 
@@ -396,6 +451,7 @@ public final class MicronautCodeGeneratorEntryPoint {
             kotlinClientCodegen.setConfigureAuthorization(kotlinClientOptions.useAuth());
             kotlinClientCodegen.setPlural(kotlinClientOptions.plural());
             kotlinClientCodegen.setFluxForArrays(kotlinClientOptions.fluxForArrays());
+            kotlinClientCodegen.setCoroutines(kotlinClientOptions.coroutines());
             kotlinClientCodegen.setKsp(kotlinClientOptions.ksp());
         }
     }
@@ -603,6 +659,8 @@ public final class MicronautCodeGeneratorEntryPoint {
             private boolean ensureUniqueParams = true;
             private boolean allowUnicodeIdentifiers;
             private boolean prependFormOrBodyParameters;
+            private int parallelism = 1;
+            private File metricsFile;
 
             @Override
             public MicronautCodeGeneratorOptionsBuilder withLang(GeneratorLanguage lang) {
@@ -886,6 +944,18 @@ public final class MicronautCodeGeneratorEntryPoint {
                 return this;
             }
 
+            @Override
+            public MicronautCodeGeneratorOptionsBuilder withParallelism(int parallelism) {
+                this.parallelism = parallelism;
+                return this;
+            }
+
+            @Override
+            public MicronautCodeGeneratorOptionsBuilder withMetricsFile(File metricsFile) {
+                this.metricsFile = metricsFile;
+                return this;
+            }
+
             private Options build() {
                 return new Options(
                     lang,
@@ -938,7 +1008,9 @@ public final class MicronautCodeGeneratorEntryPoint {
                     sortModelPropertiesByRequiredFlag,
                     ensureUniqueParams,
                     allowUnicodeIdentifiers,
-                    prependFormOrBodyParameters
+                    prependFormOrBodyParameters,
+                    parallelism,
+                    metricsFile
                 );
             }
         }
@@ -1011,7 +1083,9 @@ public final class MicronautCodeGeneratorEntryPoint {
         boolean sortModelPropertiesByRequiredFlag,
         boolean ensureUniqueParams,
         boolean allowUnicodeIdentifiers,
-        boolean prependFormOrBodyParameters
+        boolean prependFormOrBodyParameters,
+        int parallelism,
+        File metricsFile
     ) {
     }
 
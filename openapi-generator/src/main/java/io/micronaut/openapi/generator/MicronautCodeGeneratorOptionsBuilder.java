@@ -15,6 +15,7 @@
  */
 package io.micronaut.openapi.generator;
 
+import java.io.File;
 import java.util.List;
 import java.util.Map;
 
@@ -411,6 +412,24 @@ public interface MicronautCodeGeneratorOptionsBuilder {
      */
     MicronautCodeGeneratorOptionsBuilder withPrependFormOrBodyParameters(boolean prependFormOrBodyParameters);
 
+    /**
+     * Number of threads used to render model and API files. Model maps are built sequentially,
+     * only template rendering and file writing are done in parallel. The generated output doesn't depend on this value.
+     *
+     * @param parallelism number of threads, default is 1 (sequential generation)
+     * @return this builder
+     */
+    MicronautCodeGeneratorOptionsBuilder withParallelism(int parallelism);
+
+    /**
+     * File to write generation metrics to, in JSON format: phase durations, numbers of converted schemas
+     * and operations, written and skipped files, cache hits. See {@link GeneratorMetrics}.
+     *
+     * @param metricsFile metrics JSON file, null to not write metrics
+     * @return this builder
+     */
+    MicronautCodeGeneratorOptionsBuilder withMetricsFile(File metricsFile);
+
     /**
      * The possible date-time formatting configurations.
      */
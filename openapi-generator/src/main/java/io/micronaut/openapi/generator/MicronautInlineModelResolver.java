@@ -41,14 +41,20 @@ import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Inline model resolver.
@@ -58,6 +64,8 @@ import java.util.Set;
 public final class MicronautInlineModelResolver {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MicronautInlineModelResolver.class);
+    // nested schemas deeper than this level don't contribute to the structural hash
+    private static final int SIGNATURE_HASH_DEPTH = 4;
 
     // structure mapper sorts properties alphabetically on write to ensure models are
     // serialized consistently for lookup of existing models
@@ -72,7 +80,7 @@ public final class MicronautInlineModelResolver {
 
     private OpenAPI openAPI;
     private Map<String, Schema> addedModels = new HashMap<>();
-    private Map<String, String> generatedSignature = new HashMap<>();
+    private Map<Integer, List<GeneratedSchema>> generatedSignature = new HashMap<>();
     private Map<String, String> inlineSchemaNameMapping = new HashMap<>();
     private Map<String, String> inlineSchemaOptions = new HashMap<>();
     private Set<String> inlineSchemaNameMappingValues = new HashSet<>();
@@ -83,6 +91,9 @@ public final class MicronautInlineModelResolver {
     // a set to keep track of names generated for inline schemas
     private Set<String> uniqueNames = new HashSet<>();
 
+    // schemas gathered during flatten(), compared by identity
+    private final Set<Schema> gatheredSchemas = Collections.newSetFromMap(new IdentityHashMap<>());
+
     public MicronautInlineModelResolver(OpenAPI openAPI) {
         this.openAPI = openAPI;
         this.inlineSchemaOptions.put("ARRAY_ITEM_SUFFIX", "_inner");
@@ -112,7 +123,7 @@ public final class MicronautInlineModelResolver {
     }
 
     private void normalizeArraySchema(Schema schema) {
-        if (ModelUtils.isArraySchema(schema)) {
+        if (ModelUtils.isArraySchema(schema) && schema.getEnum() != null) {
             schema.setEnum(null);
         }
     }
@@ -126,8 +137,12 @@ public final class MicronautInlineModelResolver {
             this.openAPI.getComponents().setSchemas(new HashMap<>());
         }
 
-        flattenPaths();
-        flattenComponents();
+        try {
+            flattenPaths();
+            flattenComponents();
+        } finally {
+            gatheredSchemas.clear();
+        }
     }
 
     public void flattenPaths() {
@@ -351,13 +366,26 @@ public final class MicronautInlineModelResolver {
     }
 
     /**
-     * Recursively gather inline models that need to be generated and
+     * Gather inline models that need to be generated and
      * replace inline schemas with $ref to schema to-be-generated.
+     * <p>
+     * Schemas are traversed with an explicit worklist instead of recursion, so deeply nested
+     * schemas can't overflow the stack. Steps are executed in the same order as recursive traversal:
+     * inner schema is fully processed before it's replaced with $ref in the parent schema.
+     * Every schema instance is processed only once per {@link #flatten()} call.
      *
      * @param schema target schema
      * @param modelPrefix model name (usually the prefix of the inline model name)
      */
     private void gatherInlineModels(Schema schema, String modelPrefix) {
+        Deque<Runnable> worklist = new ArrayDeque<>();
+        worklist.push(() -> gatherInlineModels(schema, modelPrefix, worklist));
+        while (!worklist.isEmpty()) {
+            worklist.pop().run();
+        }
+    }
+
+    private void gatherInlineModels(Schema schema, String modelPrefix, Deque<Runnable> worklist) {
         if (schema.get$ref() != null) {
             // if ref already, no inline schemas should be present but check for
             // any to catch OpenAPI violations
@@ -368,62 +396,49 @@ public final class MicronautInlineModelResolver {
             }
             return;
         }
+        if (!gatheredSchemas.add(schema)) {
+            // shared schema, already processed from another place
+            return;
+        }
+        List<Runnable> steps = new ArrayList<>();
         // Check object models / any type models / composed models for properties,
         // if the schema has a type defined that is not "object" it should not define
         // any properties
         if (schema.getType() == null || "object".equals(schema.getType())) {
-            // Check properties and recurse, each property could be its own inline model
+            // Check properties, each property could be its own inline model
             Map<String, Schema> props = schema.getProperties();
             if (props != null) {
                 for (String propName : props.keySet()) {
-                    Schema prop = props.get(propName);
-
-                    if (prop == null) {
-                        continue;
-                    }
-
-                    normalizeArraySchema(prop);
-
-                    String schemaName = resolveModelName(prop.getTitle(), modelPrefix + "_" + propName);
-                    // Recurse to create $refs for inner models
-                    gatherInlineModels(prop, schemaName);
-                    if (isModelNeeded(prop)) {
-                        // If this schema should be split into its own model, do so
-                        Schema refSchema = makeSchemaInComponents(schemaName, prop);
-                        props.put(propName, refSchema);
-                    } else if (ModelUtils.isComposedSchema(prop)) {
-                        if (prop.getAllOf() != null && prop.getAllOf().size() == 1 &&
-                            !(((Schema) prop.getAllOf().get(0)).getType() == null ||
-                                "object".equals(((Schema) prop.getAllOf().get(0)).getType()))) {
-                            // allOf with only 1 type (non-model)
-                            LOGGER.info("allOf schema used by the property `{}` replaced by its only item (a type)", propName);
-                            props.put(propName, (Schema) prop.getAllOf().get(0));
-                        }
-                    }
+                    steps.add(() -> gatherPropertyInlineModels(props, propName, modelPrefix, worklist));
                 }
             }
             // Check additionalProperties for inline models
-            if (schema.getAdditionalProperties() != null
-                && schema.getAdditionalProperties() instanceof Schema<?> inner) {
-                String schemaName = resolveModelName(schema.getTitle(), modelPrefix + inlineSchemaOptions.get("MAP_ITEM_SUFFIX"));
-                // Recurse to create $refs for inner models
-                gatherInlineModels(inner, schemaName);
-                if (isModelNeeded(inner)) {
-                    // If this schema should be split into its own model, do so
-                    Schema refSchema = makeSchemaInComponents(schemaName, inner);
-                    schema.setAdditionalProperties(refSchema);
+            steps.add(() -> {
+                if (schema.getAdditionalProperties() != null
+                    && schema.getAdditionalProperties() instanceof Schema<?> inner) {
+                    String schemaName = resolveModelName(schema.getTitle(), modelPrefix + inlineSchemaOptions.get("MAP_ITEM_SUFFIX"));
+                    gatherInnerInlineModels(worklist, inner, schemaName, () -> {
+                        if (isModelNeeded(inner)) {
+                            // If this schema should be split into its own model, do so
+                            Schema refSchema = makeSchemaInComponents(schemaName, inner);
+                            schema.setAdditionalProperties(refSchema);
+                        }
+                    });
                 }
-            }
-            if (schema.getItems() != null && schema.getItems().get$ref() == null) {
-                String schemaName = resolveModelName(schema.getTitle(), modelPrefix + "Enum");
-                // Recurse to create $refs for inner models
-                gatherInlineModels(schema.getItems(), schemaName);
-                if (isModelNeeded(schema.getItems())) {
-                    // If this schema should be split into its own model, do so
-                    Schema refSchema = makeSchemaInComponents(schemaName, schema.getItems());
-                    schema.setAdditionalProperties(refSchema);
+            });
+            steps.add(() -> {
+                Schema items = schema.getItems();
+                if (items != null && items.get$ref() == null) {
+                    String schemaName = resolveModelName(schema.getTitle(), modelPrefix + "Enum");
+                    gatherInnerInlineModels(worklist, items, schemaName, () -> {
+                        if (isModelNeeded(items)) {
+                            // If this schema should be split into its own model, do so
+                            Schema refSchema = makeSchemaInComponents(schemaName, items);
+                            schema.setAdditionalProperties(refSchema);
+                        }
+                    });
                 }
-            }
+            });
         } else if (schema.getProperties() != null) {
             // If non-object type is specified but also properties
             LOGGER.error("Illegal schema found with non-object type combined with properties, no properties should be defined:\n {}", schema);
@@ -433,6 +448,37 @@ public final class MicronautInlineModelResolver {
             LOGGER.error("Illegal schema found with non-object type combined with additionalProperties, no additionalProperties should be defined:\n {}", schema);
             return;
         }
+        steps.add(() -> gatherArrayInlineModels(schema, modelPrefix, worklist));
+        pushSteps(worklist, steps);
+    }
+
+    private void gatherPropertyInlineModels(Map<String, Schema> props, String propName, String modelPrefix, Deque<Runnable> worklist) {
+        Schema prop = props.get(propName);
+        if (prop == null) {
+            return;
+        }
+
+        normalizeArraySchema(prop);
+
+        String schemaName = resolveModelName(prop.getTitle(), modelPrefix + "_" + propName);
+        gatherInnerInlineModels(worklist, prop, schemaName, () -> {
+            if (isModelNeeded(prop)) {
+                // If this schema should be split into its own model, do so
+                Schema refSchema = makeSchemaInComponents(schemaName, prop);
+                props.put(propName, refSchema);
+            } else if (ModelUtils.isComposedSchema(prop)) {
+                if (prop.getAllOf() != null && prop.getAllOf().size() == 1 &&
+                    !(((Schema) prop.getAllOf().get(0)).getType() == null ||
+                        "object".equals(((Schema) prop.getAllOf().get(0)).getType()))) {
+                    // allOf with only 1 type (non-model)
+                    LOGGER.info("allOf schema used by the property `{}` replaced by its only item (a type)", propName);
+                    props.put(propName, (Schema) prop.getAllOf().get(0));
+                }
+            }
+        });
+    }
+
+    private void gatherArrayInlineModels(Schema schema, String modelPrefix, Deque<Runnable> worklist) {
         // Check array items
         if (schema instanceof ArraySchema array) {
             var items = array.getItems();
@@ -442,108 +488,143 @@ public final class MicronautInlineModelResolver {
             }
             String schemaName = resolveModelName(items.getTitle(), modelPrefix + inlineSchemaOptions.get("ARRAY_ITEM_SUFFIX"));
 
-            // Recurse to create $refs for inner models
-            gatherInlineModels(items, schemaName);
-
-            if (isModelNeeded(items)) {
-                // If this schema should be split into its own model, do so
-                Schema refSchema = makeSchemaInComponents(schemaName, items);
-                array.setItems(refSchema);
-            }
+            worklist.push(() -> gatherComposedInlineModels(schema, modelPrefix, worklist));
+            gatherInnerInlineModels(worklist, items, schemaName, () -> {
+                if (isModelNeeded(items)) {
+                    // If this schema should be split into its own model, do so
+                    Schema refSchema = makeSchemaInComponents(schemaName, items);
+                    array.setItems(refSchema);
+                }
+            });
+        } else {
+            gatherComposedInlineModels(schema, modelPrefix, worklist);
         }
+    }
+
+    private void gatherComposedInlineModels(Schema schema, String modelPrefix, Deque<Runnable> worklist) {
+        List<Runnable> steps = new ArrayList<>();
         // Check allOf, anyOf, oneOf for inline models
         if (ModelUtils.isComposedSchema(schema)) {
-            if (schema.getAllOf() != null) {
-                List<Schema> newAllOf = new ArrayList<>();
-                boolean atLeastOneModel = false;
-                for (Object inner : schema.getAllOf()) {
-                    if (inner == null) {
-                        continue;
+            steps.add(() -> gatherAllOfInlineModels(schema, modelPrefix, worklist));
+            steps.add(() -> {
+                if (schema.getAnyOf() != null) {
+                    List<Schema> newAnyOf = new ArrayList<>();
+                    gatherComposedItemsInlineModels(schema.getAnyOf(), newAnyOf, modelPrefix + "_anyOf", worklist, () -> {
+                        schema.setAnyOf(newAnyOf);
+                    });
+                }
+            });
+            steps.add(() -> {
+                if (schema.getOneOf() != null) {
+                    List<Schema> newOneOf = new ArrayList<>();
+                    gatherComposedItemsInlineModels(schema.getOneOf(), newOneOf, modelPrefix + "_oneOf", worklist, () -> {
+                        schema.setOneOf(newOneOf);
+                    });
+                }
+            });
+        }
+        // Check not schema
+        steps.add(() -> {
+            Schema not = schema.getNot();
+            if (not != null) {
+                String schemaName = resolveModelName(schema.getTitle(), modelPrefix + "_not");
+                gatherInnerInlineModels(worklist, not, schemaName, () -> {
+                    if (isModelNeeded(not)) {
+                        Schema refSchema = makeSchemaInComponents(schemaName, not);
+                        schema.setNot(refSchema);
                     }
+                });
+            }
+        });
+        pushSteps(worklist, steps);
+    }
 
-                    normalizeArraySchema((Schema) inner);
+    private void gatherAllOfInlineModels(Schema schema, String modelPrefix, Deque<Runnable> worklist) {
+        List<Object> allOf = schema.getAllOf();
+        if (allOf == null) {
+            return;
+        }
+        List<Schema> newAllOf = new ArrayList<>();
+        var atLeastOneModel = new AtomicBoolean();
+        List<Runnable> steps = new ArrayList<>();
+        for (Object item : allOf) {
+            if (item == null) {
+                continue;
+            }
+            var inner = (Schema) item;
+            steps.add(() -> {
+                normalizeArraySchema(inner);
 
-                    String schemaName = resolveModelName(((Schema) inner).getTitle(), modelPrefix + "_allOf");
-                    // Recurse to create $refs for inner models
-                    gatherInlineModels((Schema) inner, schemaName);
-                    if (isModelNeeded((Schema) inner)) {
+                String schemaName = resolveModelName(inner.getTitle(), modelPrefix + "_allOf");
+                gatherInnerInlineModels(worklist, inner, schemaName, () -> {
+                    if (isModelNeeded(inner)) {
                         if (Boolean.TRUE.equals(refactorAllOfInlineSchemas)) {
-                            Schema refSchema = makeSchemaInComponents(schemaName, (Schema) inner);
+                            Schema refSchema = makeSchemaInComponents(schemaName, inner);
                             newAllOf.add(refSchema); // replace with ref
-                            atLeastOneModel = true;
+                            atLeastOneModel.set(true);
                         } else { // do not refactor allOf inline schemas
-                            newAllOf.add((Schema) inner);
-                            atLeastOneModel = true;
+                            newAllOf.add(inner);
+                            atLeastOneModel.set(true);
                         }
                     } else {
-                        newAllOf.add((Schema) inner);
-                    }
-                }
-                if (atLeastOneModel) {
-                    schema.setAllOf(newAllOf);
-                } else {
-                    // allOf is just one or more types only so do not generate the inline allOf model
-                    if (schema.getAllOf().size() > 1) {
-                        LOGGER.warn("allOf schema `{}` containing multiple types (not model) is not supported at the moment.", schema.getName());
-                    } else if (schema.getAllOf().size() != 1) {
-                        // handle earlier in this function when looping through properties
-                        LOGGER.error("allOf schema `{}` contains no items.", schema.getName());
+                        newAllOf.add(inner);
                     }
+                });
+            });
+        }
+        steps.add(() -> {
+            if (atLeastOneModel.get()) {
+                schema.setAllOf(newAllOf);
+            } else {
+                // allOf is just one or more types only so do not generate the inline allOf model
+                if (schema.getAllOf().size() > 1) {
+                    LOGGER.warn("allOf schema `{}` containing multiple types (not model) is not supported at the moment.", schema.getName());
+                } else if (schema.getAllOf().size() != 1) {
+                    // handle earlier in this function when looping through properties
+                    LOGGER.error("allOf schema `{}` contains no items.", schema.getName());
                 }
             }
-            if (schema.getAnyOf() != null) {
-                List<Schema> newAnyOf = new ArrayList<>();
-                for (Object inner : schema.getAnyOf()) {
-                    if (inner == null) {
-                        continue;
-                    }
+        });
+        pushSteps(worklist, steps);
+    }
 
-                    normalizeArraySchema((Schema) inner);
-                    String schemaName = resolveModelName(((Schema) inner).getTitle(), modelPrefix + "_anyOf");
-                    // Recurse to create $refs for inner models
-                    gatherInlineModels((Schema) inner, schemaName);
-                    if (isModelNeeded((Schema) inner)) {
-                        Schema refSchema = makeSchemaInComponents(schemaName, (Schema) inner);
-                        newAnyOf.add(refSchema); // replace with ref
-                    } else {
-                        newAnyOf.add((Schema) inner);
-                    }
-                }
-                schema.setAnyOf(newAnyOf);
+    private void gatherComposedItemsInlineModels(List<Object> items, List<Schema> newItems, String modelPrefix,
+                                                 Deque<Runnable> worklist, Runnable onComplete) {
+        List<Runnable> steps = new ArrayList<>();
+        for (Object item : items) {
+            if (item == null) {
+                continue;
             }
-            if (schema.getOneOf() != null) {
-                List<Schema> newOneOf = new ArrayList<>();
-                for (Object inner : schema.getOneOf()) {
-                    if (inner == null) {
-                        continue;
-                    }
-
-                    normalizeArraySchema((Schema) inner);
-                    String schemaName = resolveModelName(((Schema) inner).getTitle(), modelPrefix + "_oneOf");
-                    // Recurse to create $refs for inner models
-                    gatherInlineModels((Schema) inner, schemaName);
-                    if (isModelNeeded((Schema) inner)) {
-                        Schema refSchema = makeSchemaInComponents(schemaName, (Schema) inner);
-                        newOneOf.add(refSchema); // replace with ref
+            var inner = (Schema) item;
+            steps.add(() -> {
+                normalizeArraySchema(inner);
+                String schemaName = resolveModelName(inner.getTitle(), modelPrefix);
+                gatherInnerInlineModels(worklist, inner, schemaName, () -> {
+                    if (isModelNeeded(inner)) {
+                        Schema refSchema = makeSchemaInComponents(schemaName, inner);
+                        newItems.add(refSchema); // replace with ref
                     } else {
-                        newOneOf.add((Schema) inner);
+                        newItems.add(inner);
                     }
-                }
-                schema.setOneOf(newOneOf);
-            }
+                });
+            });
         }
-        // Check not schema
-        if (schema.getNot() != null) {
-            Schema not = schema.getNot();
-            if (not != null) {
-                String schemaName = resolveModelName(schema.getTitle(), modelPrefix + "_not");
-                // Recurse to create $refs for inner models
-                gatherInlineModels(not, schemaName);
-                if (isModelNeeded(not)) {
-                    Schema refSchema = makeSchemaInComponents(schemaName, not);
-                    schema.setNot(refSchema);
-                }
-            }
+        steps.add(onComplete);
+        pushSteps(worklist, steps);
+    }
+
+    /**
+     * Schedule processing of the inner schema, followed by the step, which decides
+     * whether to replace inner schema with $ref in the parent schema.
+     */
+    private void gatherInnerInlineModels(Deque<Runnable> worklist, Schema inner, String schemaName, Runnable afterInner) {
+        worklist.push(afterInner);
+        worklist.push(() -> gatherInlineModels(inner, schemaName, worklist));
+    }
+
+    private static void pushSteps(Deque<Runnable> worklist, List<Runnable> steps) {
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            worklist.push(steps.get(i));
         }
     }
 
@@ -588,7 +669,8 @@ public final class MicronautInlineModelResolver {
      * @return {@link Schema} $ref schema to new or existing schema
      */
     private Schema makeSchemaInComponents(String name, Schema schema) {
-        String existing = matchGenerated(schema);
+        SchemaSignature signature = signature(schema);
+        String existing = matchGenerated(signature);
         Schema refSchema;
         if (existing != null) {
             refSchema = new Schema().$ref(existing);
@@ -596,7 +678,7 @@ public final class MicronautInlineModelResolver {
             if (resolveInlineEnums && schema.getEnum() != null && !schema.getEnum().isEmpty()) {
                 LOGGER.warn("Model {} promoted to its own schema due to resolveInlineEnums=true", name);
             }
-            name = addSchemas(name, schema);
+            name = addSchemas(name, schema, signature);
             refSchema = new Schema().$ref(name);
         }
         copyVendorExtensions(schema, refSchema);
@@ -620,20 +702,87 @@ public final class MicronautInlineModelResolver {
         }
     }
 
-    private String matchGenerated(Schema model) {
+    private String matchGenerated(SchemaSignature signature) {
+        if (signature == null) {
+            return null;
+        }
+        List<GeneratedSchema> candidates = generatedSignature.get(signature.hash);
+        if (candidates == null) {
+            return null;
+        }
+        for (GeneratedSchema candidate : candidates) {
+            if (signature.structureEquals(candidate.signature)) {
+                return candidate.name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compute structural signature of the schema: hash of the schema fields, which is cheap to compute.
+     * Canonical JSON form of the schema is created only when hashes of two schemas are equal,
+     * to check that schemas are really equal. Signature is computed once per schema and used both
+     * for lookup and registration.
+     *
+     * @param model target schema
+     *
+     * @return schema signature or null if schema reuse is disabled
+     */
+    private SchemaSignature signature(Schema model) {
         if (skipSchemaReuse) { // skip reusing schema
             return null;
         }
-        try {
-            String json = STRUCTURE_MAPPER.writeValueAsString(model);
-            if (generatedSignature.containsKey(json)) {
-                return generatedSignature.get(json);
+        return new SchemaSignature(model, structureHash(model, SIGNATURE_HASH_DEPTH));
+    }
+
+    /**
+     * Hash of the fields, which are written to the canonical JSON form of the schema, so equal
+     * canonical forms always have equal hashes. Enum values are hashed by their string form, like they're written to JSON.
+     *
+     * @param schema target schema
+     * @param depth remaining depth of nested schemas
+     *
+     * @return structural hash
+     */
+    private static int structureHash(Object schema, int depth) {
+        if (!(schema instanceof Schema<?> model)) {
+            return Objects.hashCode(schema);
+        }
+        int hash = Objects.hash(model.get$ref(), model.getType(), model.getFormat(), model.getTitle(),
+            model.getDescription(), model.getRequired(), model.getNullable(), model.getReadOnly(), model.getWriteOnly(),
+            model.getPattern(), model.getMinLength(), model.getMaxLength(), model.getMinItems(), model.getMaxItems());
+        if (model.getEnum() != null) {
+            for (Object value : model.getEnum()) {
+                hash = 31 * hash + String.valueOf(value).hashCode();
             }
-        } catch (JsonProcessingException e) {
-            LOGGER.warn("Error: {}", e.getMessage());
         }
+        if (depth == 0) {
+            return hash;
+        }
+        if (model.getProperties() != null) {
+            for (var entry : model.getProperties().entrySet()) {
+                hash = 31 * hash + entry.getKey().hashCode();
+                hash = 31 * hash + structureHash(entry.getValue(), depth - 1);
+            }
+        }
+        hash = 31 * hash + structureHash(model.getItems(), depth - 1);
+        hash = 31 * hash + structureHash(model.getAdditionalProperties(), depth - 1);
+        hash = 31 * hash + structureHash(model.getNot(), depth - 1);
+        hash = 31 * hash + structureHash(model.getAllOf(), depth - 1);
+        hash = 31 * hash + structureHash(model.getAnyOf(), depth - 1);
+        hash = 31 * hash + structureHash(model.getOneOf(), depth - 1);
+        return hash;
+    }
 
-        return null;
+    private static int structureHash(List<?> schemas, int depth) {
+        if (schemas == null) {
+            return 0;
+        }
+        int hash = 1;
+        for (Object schema : schemas) {
+            hash = 31 * hash + structureHash(schema, depth);
+        }
+        return hash;
     }
 
     /**
@@ -724,12 +873,25 @@ public final class MicronautInlineModelResolver {
      * @return the actual model name (based on inlineSchemaNameMapping if provided)
      */
     private String addSchemas(String name, Schema schema) {
+        return addSchemas(name, schema, signature(schema));
+    }
+
+    /**
+     * Add the schemas to the components.
+     *
+     * @param name name of the inline schema
+     * @param schema inline schema
+     * @param signature precomputed schema signature
+     *
+     * @return the actual model name (based on inlineSchemaNameMapping if provided)
+     */
+    private String addSchemas(String name, Schema schema, SchemaSignature signature) {
         //check inlineSchemaNameMapping
         if (inlineSchemaNameMapping.containsKey(name)) {
             name = inlineSchemaNameMapping.get(name);
         }
 
-        addGenerated(name, schema);
+        addGenerated(name, signature);
         openAPI.getComponents().addSchemas(name, schema);
         if (!name.equals(schema.getTitle()) && !inlineSchemaNameMappingValues.contains(name)) {
             LOGGER.info("Inline schema created as {}. To have complete control of the model name, set the `title` field or use the modelNameMapping option (e.g. --model-name-mappings {}=NewModel,ModelA=NewModelA in CLI) or inlineSchemaNameMapping option (--inline-schema-name-mappings {}=NewModel,ModelA=NewModelA in CLI).", name, name, name);
@@ -740,12 +902,12 @@ public final class MicronautInlineModelResolver {
         return name;
     }
 
-    private void addGenerated(String name, Schema model) {
-        try {
-            String json = STRUCTURE_MAPPER.writeValueAsString(model);
-            generatedSignature.put(json, name);
-        } catch (JsonProcessingException e) {
-            LOGGER.error("Error: {}", e.getMessage());
+    private void addGenerated(String name, SchemaSignature signature) {
+        // canonical form is taken together with the hash, so later changes of the registered schema
+        // don't affect matching of the next inline schemas
+        if (signature != null && signature.canonical() != null) {
+            generatedSignature.computeIfAbsent(signature.hash, k -> new ArrayList<>(1))
+                .add(new GeneratedSchema(name, signature));
         }
     }
 
@@ -826,9 +988,10 @@ public final class MicronautInlineModelResolver {
                 // Recurse to create $refs for inner models
                 gatherInlineModels(innerModel, innerModelName);
                 if (!skipAllOfInlineSchemas) {
-                    String existing = matchGenerated(innerModel);
+                    SchemaSignature signature = signature(innerModel);
+                    String existing = matchGenerated(signature);
                     if (existing == null) {
-                        innerModelName = addSchemas(innerModelName, innerModel);
+                        innerModelName = addSchemas(innerModelName, innerModel, signature);
                         Schema schema = new Schema().$ref(innerModelName);
                         schema.setRequired(component.getRequired());
                         listIterator.set(schema);
@@ -916,13 +1079,14 @@ public final class MicronautInlineModelResolver {
                 Schema op = property;
                 String modelName = resolveModelName(op.getTitle(), path + "_" + key);
                 Schema model = modelFromProperty(openAPI, op, modelName);
-                String existing = matchGenerated(model);
+                SchemaSignature signature = signature(model);
+                String existing = matchGenerated(signature);
                 if (existing != null) {
                     Schema schema = new Schema().$ref(existing);
                     schema.setRequired(op.getRequired());
                     propsToUpdate.put(key, schema);
                 } else {
-                    modelName = addSchemas(modelName, model);
+                    modelName = addSchemas(modelName, model, signature);
                     Schema schema = new Schema().$ref(modelName);
                     schema.setRequired(op.getRequired());
                     propsToUpdate.put(key, schema);
@@ -936,13 +1100,14 @@ public final class MicronautInlineModelResolver {
                         flattenProperties(openAPI, op.getProperties(), path);
                         String modelName = resolveModelName(op.getTitle(), path + "_" + key);
                         Schema innerModel = modelFromProperty(openAPI, op, modelName);
-                        String existing = matchGenerated(innerModel);
+                        SchemaSignature signature = signature(innerModel);
+                        String existing = matchGenerated(signature);
                         if (existing != null) {
                             Schema schema = new Schema().$ref(existing);
                             schema.setRequired(op.getRequired());
                             property.setItems(schema);
                         } else {
-                            modelName = addSchemas(modelName, innerModel);
+                            modelName = addSchemas(modelName, innerModel, signature);
                             Schema schema = new Schema().$ref(modelName);
                             schema.setRequired(op.getRequired());
                             property.setItems(schema);
@@ -966,13 +1131,14 @@ public final class MicronautInlineModelResolver {
                         flattenProperties(openAPI, op.getProperties(), path);
                         String modelName = resolveModelName(op.getTitle(), path + "_" + key);
                         Schema innerModel = modelFromProperty(openAPI, op, modelName);
-                        String existing = matchGenerated(innerModel);
+                        SchemaSignature signature = signature(innerModel);
+                        String existing = matchGenerated(signature);
                         if (existing != null) {
                             Schema schema = new Schema().$ref(existing);
                             schema.setRequired(op.getRequired());
                             property.setAdditionalProperties(schema);
                         } else {
-                            modelName = addSchemas(modelName, innerModel);
+                            modelName = addSchemas(modelName, innerModel, signature);
                             Schema schema = new Schema().$ref(modelName);
                             schema.setRequired(op.getRequired());
                             property.setAdditionalProperties(schema);
@@ -1017,4 +1183,51 @@ public final class MicronautInlineModelResolver {
         }
     }
 
+    /**
+     * Structural signature of the schema: hash of the schema fields and canonical JSON form,
+     * which is used to check equality of schemas with the same hash. Canonical form is created
+     * on registration of the schema or lazily for lookup of not registered schemas.
+     */
+    private static final class SchemaSignature {
+
+        private final Schema schema;
+        private final int hash;
+        private String canonical;
+
+        private SchemaSignature(Schema schema, int hash) {
+            this.schema = schema;
+            this.hash = hash;
+        }
+
+        private boolean structureEquals(SchemaSignature other) {
+            if (hash != other.hash) {
+                return false;
+            }
+            String canonical = canonical();
+            return canonical != null && canonical.equals(other.canonical());
+        }
+
+        private String canonical() {
+            if (canonical == null) {
+                try {
+                    canonical = STRUCTURE_MAPPER.writeValueAsString(schema);
+                } catch (JsonProcessingException e) {
+                    LOGGER.warn("Error: {}", e.getMessage());
+                }
+            }
+            return canonical;
+        }
+    }
+
+    /**
+     * Schema moved to components.
+     *
+     * @param name schema name
+     * @param signature schema signature
+     */
+    private record GeneratedSchema(
+        String name,
+        SchemaSignature signature
+    ) {
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.TemplateManager;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.templating.CommonTemplateContentLocator;
+import org.openapitools.codegen.templating.MustacheEngineAdapter;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
+
+/**
+ * Mustache engine adapter, which compiles every template only once.
+ * <p>
+ * Built-in templates are cached JVM-wide, so later generator runs in the same process (for example, Gradle daemon)
+ * reuse compiled templates and partials. Templates are cached by template path and content, embedded template
+ * directory, library and generator class. When custom template directory is used, templates are cached only
+ * for the current run, because they can be changed between runs.
+ *
+ * @since 6.13.1
+ */
+public class MicronautMustacheEngineAdapter extends MustacheEngineAdapter {
+
+    private static final Map<TemplateKey, Template> SHARED_TEMPLATES = new ConcurrentHashMap<>();
+    private static final Map<BuiltinTemplatesKey, TemplatingExecutor> BUILTIN_TEMPLATES = new ConcurrentHashMap<>();
+
+    private final CodegenConfig config;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    public MicronautMustacheEngineAdapter(CodegenConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public String compileTemplate(TemplatingExecutor executor, Map<String, Object> bundle, String templateFile) throws IOException {
+        Template template;
+        if (isBuiltinTemplates()) {
+            var key = new TemplateKey(templateFile, executor.getFullTemplateContents(templateFile), config.embeddedTemplateDir(),
+                config.getLibrary(), config.getClass().getName());
+            template = SHARED_TEMPLATES.computeIfAbsent(key, k -> compile(getCompiler(), builtinTemplates(k.embeddedTemplateDir, k.library), k.content));
+        } else {
+            template = templates.computeIfAbsent(templateFile, name -> compile(getCompiler(), executor, executor.getFullTemplateContents(name)));
+        }
+        return template.execute(bundle);
+    }
+
+    /**
+     * Clear JVM-wide cache of compiled built-in templates.
+     */
+    public static void clearCache() {
+        SHARED_TEMPLATES.clear();
+        BUILTIN_TEMPLATES.clear();
+    }
+
+    /**
+     * Template directory can be changed by options, so it's checked on every call.
+     */
+    private boolean isBuiltinTemplates() {
+        return Objects.equals(config.templateDir(), config.embeddedTemplateDir());
+    }
+
+    private static Template compile(Mustache.Compiler compiler, TemplatingExecutor executor, String content) {
+        // partials are loaded and compiled once, on first execution of the template
+        return compiler
+            .withLoader(name -> new StringReader(executor.getFullTemplateContents(name + ".mustache")))
+            .defaultValue("")
+            .compile(content);
+    }
+
+    /**
+     * Compiled built-in templates can outlive generator run, so partials are loaded without references
+     * to the run's configuration and OpenAPI definition.
+     */
+    private static TemplatingExecutor builtinTemplates(String embeddedTemplateDir, String library) {
+        return BUILTIN_TEMPLATES.computeIfAbsent(new BuiltinTemplatesKey(embeddedTemplateDir, library), key -> new TemplateManager(
+            new TemplateManagerOptions(false, false),
+            new MustacheEngineAdapter(),
+            new TemplatePathLocator[] {new BuiltinTemplateLocator(key.embeddedTemplateDir, key.library), new CommonTemplateContentLocator()}
+        ));
+    }
+
+    private record TemplateKey(
+        String templateFile,
+        String content,
+        String embeddedTemplateDir,
+        String library,
+        String generator
+    ) {
+    }
+
+    private record BuiltinTemplatesKey(
+        String embeddedTemplateDir,
+        String library
+    ) {
+    }
+
+    /**
+     * Locator of templates embedded to generator jar: library template has priority over common one.
+     */
+    private record BuiltinTemplateLocator(
+        String embeddedTemplateDir,
+        String library
+    ) implements TemplatePathLocator {
+
+        @Override
+        public String getTemplatePath(String relativeTemplateFile) {
+            if (StringUtils.isNotEmpty(library)) {
+                var libraryTemplateFile = embeddedTemplateDir + "/libraries/" + library + '/' + relativeTemplateFile;
+                if (exists(libraryTemplateFile)) {
+                    return libraryTemplateFile;
+                }
+            }
+            var templateFile = embeddedTemplateDir + '/' + relativeTemplateFile;
+            return exists(templateFile) ? templateFile : null;
+        }
+
+        private static boolean exists(String path) {
+            return BuiltinTemplateLocator.class.getClassLoader().getResource(path) != null;
+        }
+    }
+}
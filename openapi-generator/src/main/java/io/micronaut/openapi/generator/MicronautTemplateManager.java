@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openapitools.codegen.TemplateManager;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Template manager, which doesn't touch files with unchanged content, so their modification time
+ * is kept and incremental compilation can skip them. Thread-safe, files can be written from several threads.
+ *
+ * @since 6.13.1
+ */
+public class MicronautTemplateManager extends TemplateManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MicronautTemplateManager.class);
+
+    private final AtomicInteger writtenCount = new AtomicInteger();
+    private final AtomicInteger unchangedCount = new AtomicInteger();
+    private final LongAdder templateNanos = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+    private final Set<Path> skippedFiles = ConcurrentHashMap.newKeySet();
+
+    public MicronautTemplateManager(TemplateManagerOptions options, TemplatingEngineAdapter engineAdapter, TemplatePathLocator[] templateLoaders) {
+        super(options, engineAdapter, templateLoaders);
+    }
+
+    @Override
+    public File write(Map<String, Object> data, String template, File target) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return super.write(data, template, target);
+        } finally {
+            templateNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public File writeToFile(String filename, byte[] contents) throws IOException {
+        long start = System.nanoTime();
+        try {
+            var path = Path.of(filename);
+            if (isUnchanged(path, contents)) {
+                unchangedCount.incrementAndGet();
+                LOG.debug("Skipping unchanged file {}", filename);
+                return path.toFile();
+            }
+            writtenCount.incrementAndGet();
+            return super.writeToFile(filename, contents);
+        } finally {
+            writeNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void skip(Path path, String context) {
+        skippedFiles.add(path.toAbsolutePath().normalize());
+        super.skip(path, context);
+    }
+
+    @Override
+    public void ignore(Path path, String context) {
+        skippedFiles.add(path.toAbsolutePath().normalize());
+        super.ignore(path, context);
+    }
+
+    /**
+     * @return number of created or changed files
+     */
+    public int getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * @return number of files with unchanged content
+     */
+    public int getUnchangedCount() {
+        return unchangedCount.get();
+    }
+
+    /**
+     * @return time spent in template rendering without writing, summed over all threads
+     */
+    public long getRenderNanos() {
+        return Math.max(0, templateNanos.sum() - writeNanos.sum());
+    }
+
+    /**
+     * @return time spent in writing files and comparing them with existing ones, summed over all threads
+     */
+    public long getWriteNanos() {
+        return writeNanos.sum();
+    }
+
+    /**
+     * @return absolute paths of skipped and ignored files
+     */
+    public Set<Path> getSkippedFiles() {
+        return skippedFiles;
+    }
+
+    private static boolean isUnchanged(Path path, byte[] contents) throws IOException {
+        return Files.isRegularFile(path)
+            && Files.size(path) == contents.length
+            && Arrays.equals(Files.readAllBytes(path), contents);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * JVM-wide cache of parsed and resolved OpenAPI definitions. Useful when several generators
+ * (for example, client and server) are run from the same definition in one build daemon.
+ * <p>
+ * Definitions are cached by URI, content hash and parse options. For local files, size and modification time
+ * of YAML and JSON files in the definition directory are also part of the key, so changes in external references
+ * are detected. Parsed definitions are stored serialized, every caller gets its own copy and can modify it.
+ *
+ * @since 6.13.1
+ */
+public final class OpenApiDefinitionCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OpenApiDefinitionCache.class);
+
+    private static final int MAX_SIZE = 8;
+    private static final int REFERENCES_MAX_DEPTH = 2;
+
+    private static final Map<String, CachedDefinition> CACHE = new LinkedHashMap<>(MAX_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedDefinition> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    private OpenApiDefinitionCache() {
+    }
+
+    /**
+     * Parse OpenAPI definition or return the copy of cached one.
+     *
+     * @param definitionFile definition URI
+     * @param parseOptions parse options
+     *
+     * @return parsed OpenAPI definition, null if definition can't be parsed
+     */
+    public static OpenAPI parse(URI definitionFile, ParseOptions parseOptions) {
+        String key;
+        try {
+            key = cacheKey(definitionFile, parseOptions);
+        } catch (IOException e) {
+            LOG.debug("Unable to compute cache key for {}, definition is parsed without cache: {}", definitionFile, e.getMessage());
+            return readLocation(definitionFile, parseOptions);
+        }
+
+        CachedDefinition cached;
+        synchronized (CACHE) {
+            cached = CACHE.get(key);
+        }
+        if (cached != null) {
+            try {
+                LOG.debug("Using cached OpenAPI definition {}", definitionFile);
+                return readCached(cached);
+            } catch (IOException e) {
+                LOG.debug("Unable to read cached OpenAPI definition {}: {}", definitionFile, e.getMessage());
+            }
+        }
+
+        var openApi = readLocation(definitionFile, parseOptions);
+        if (openApi == null) {
+            return null;
+        }
+        // serialize before returning, so later mutations by generator don't change cached value
+        try {
+            var openapi31 = openApi.getSpecVersion() == SpecVersion.V31
+                || (openApi.getOpenapi() != null && openApi.getOpenapi().startsWith("3.1"));
+            var content = mapper(openapi31).writeValueAsBytes(openApi);
+            synchronized (CACHE) {
+                CACHE.put(key, new CachedDefinition(content, openapi31));
+            }
+        } catch (IOException e) {
+            LOG.debug("Unable to cache OpenAPI definition {}: {}", definitionFile, e.getMessage());
+        }
+        return openApi;
+    }
+
+    /**
+     * Clear cache.
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    private static OpenAPI readLocation(URI definitionFile, ParseOptions parseOptions) {
+        return new OpenAPIParser()
+            .readLocation(definitionFile.toString(), null, parseOptions).getOpenAPI();
+    }
+
+    private static OpenAPI readCached(CachedDefinition cached) throws IOException {
+        var openApi = mapper(cached.openapi31).readValue(cached.content, OpenAPI.class);
+        if (cached.openapi31) {
+            openApi.setSpecVersion(SpecVersion.V31);
+        }
+        return openApi;
+    }
+
+    private static ObjectMapper mapper(boolean openapi31) {
+        return openapi31 ? Json31.mapper() : Json.mapper();
+    }
+
+    private static String cacheKey(URI definitionFile, ParseOptions parseOptions) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        if ("file".equals(definitionFile.getScheme())) {
+            var path = Path.of(definitionFile);
+            digest.update(Files.readAllBytes(path));
+            var dir = path.toAbsolutePath().getParent();
+            if (dir != null) {
+                updateWithDirectory(digest, dir);
+            }
+        } else {
+            try (InputStream in = definitionFile.toURL().openStream()) {
+                digest.update(in.readAllBytes());
+            }
+        }
+        return definitionFile
+            + "|resolve=" + parseOptions.isResolve()
+            + "|resolveFully=" + parseOptions.isResolveFully()
+            + "|flatten=" + parseOptions.isFlatten()
+            + "|" + HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Externally referenced files are usually placed next to the main definition, so their changes
+     * must invalidate cached value. Only YAML and JSON files are checked, so generated sources don't affect the key.
+     */
+    private static void updateWithDirectory(MessageDigest digest, Path dir) throws IOException {
+        try (var files = Files.walk(dir, REFERENCES_MAX_DEPTH)) {
+            var iterator = files
+                .filter(file -> {
+                    var fileName = file.getFileName().toString().toLowerCase();
+                    return (fileName.endsWith(".yml") || fileName.endsWith(".yaml") || fileName.endsWith(".json"))
+                        && Files.isRegularFile(file);
+                })
+                .sorted()
+                .iterator();
+            var buffer = ByteBuffer.allocate(Long.BYTES * 2);
+            while (iterator.hasNext()) {
+                var file = iterator.next();
+                digest.update(file.toString().getBytes(StandardCharsets.UTF_8));
+                buffer.clear();
+                buffer.putLong(Files.size(file));
+                buffer.putLong(Files.getLastModifiedTime(file).toMillis());
+                digest.update(buffer.array());
+            }
+        }
+    }
+
+    private record CachedDefinition(
+        byte[] content,
+        boolean openapi31
+    ) {
+    }
+}
@@ -56,6 +56,15 @@ public final class Utils {
     public static final String EXT_ANNOTATIONS_CLASS = "x-class-extra-annotation";
     public static final String EXT_ANNOTATIONS_FIELD = "x-field-extra-annotation";
     public static final String EXT_ANNOTATIONS_SETTER = "x-setter-extra-annotation";
+    public static final String EXT_EXECUTE_ON = "x-execute-on";
+
+    private static final Map<String, String> TASK_EXECUTORS = Map.of(
+        "io", "TaskExecutors.IO",
+        "blocking", "TaskExecutors.BLOCKING",
+        "virtual", "TaskExecutors.VIRTUAL",
+        "scheduled", "TaskExecutors.SCHEDULED",
+        "consumer", "TaskExecutors.MESSAGE_CONSUMER"
+    );
 
     private Utils() {
     }
@@ -441,6 +450,55 @@ public final class Utils {
         return prefix + (annotationStr.startsWith("@") ? annotationStr.substring(1) : annotationStr);
     }
 
+    /**
+     * Set value of {@literal @}ExecuteOn annotation for server operations. Value of {@code x-execute-on} extension
+     * has priority, {@code false} disables annotation for the operation. Otherwise, default executor is used
+     * for blocking operations. Names of standard executors ({@code io}, {@code blocking}, {@code virtual}, {@code scheduled},
+     * {@code consumer}) are replaced with TaskExecutors constants, other names are written as string literals.
+     *
+     * @param operations operations of API
+     * @param imports imports of API
+     * @param defaultExecutor executor name from generator options, can be null
+     * @param isBlocking whether operations are blocking, i.e. don't return reactive types
+     * @param isKotlin whether names of custom executors are written to Kotlin string literals
+     */
+    public static void processExecuteOn(List<CodegenOperation> operations, List<Map<String, String>> imports, String defaultExecutor, boolean isBlocking, boolean isKotlin) {
+        boolean hasExecuteOn = false;
+        boolean hasTaskExecutors = false;
+        for (var op : operations) {
+            var ext = op.vendorExtensions.get(EXT_EXECUTE_ON);
+            String executor;
+            if (ext == null) {
+                executor = isBlocking ? defaultExecutor : null;
+            } else {
+                executor = "false".equals(ext.toString()) ? null : ext.toString().strip();
+            }
+            if (StringUtils.isBlank(executor)) {
+                op.vendorExtensions.remove(EXT_EXECUTE_ON);
+                continue;
+            }
+            var taskExecutor = TASK_EXECUTORS.get(executor);
+            op.vendorExtensions.put(EXT_EXECUTE_ON, taskExecutor != null ? taskExecutor : executorLiteral(executor, isKotlin));
+            hasExecuteOn = true;
+            hasTaskExecutors |= taskExecutor != null;
+        }
+        if (hasExecuteOn) {
+            imports.add(Map.of("import", "io.micronaut.scheduling.annotation.ExecuteOn", "classname", "ExecuteOn"));
+        }
+        if (hasTaskExecutors) {
+            imports.add(Map.of("import", "io.micronaut.scheduling.TaskExecutors", "classname", "TaskExecutors"));
+        }
+    }
+
+    private static String executorLiteral(String executor, boolean isKotlin) {
+        var escaped = executor.replace("\\", "\\\\").replace("\"", "\\\"");
+        if (isKotlin) {
+            // string templates start with $ in Kotlin
+            escaped = escaped.replace("$", "\\$");
+        }
+        return '"' + escaped + '"';
+    }
+
     public static boolean isDateType(String type) {
         return DATE_TIME_TYPES.contains(type);
     }
@@ -117,6 +117,7 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -2766,6 +2767,51 @@ public class DefaultCodegen implements CodegenConfig {
     }
 
     Map<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = new HashMap<>();
+    private long schemaCodegenPropertyCacheHits;
+    private long schemaCodegenPropertyCacheMisses;
+    /**
+     * Sanitized name counters are updated only when metrics are enabled, so shared cache doesn't record statistics.
+     */
+    private boolean metricsEnabled;
+    private final LongAdder sanitizedNameCalls = new LongAdder();
+    private final LongAdder sanitizedNameCacheMisses = new LongAdder();
+
+    /**
+     * Enable or disable counting of sanitized names cache hits and misses. Default is false.
+     *
+     * @param metricsEnabled true to count cache hits and misses
+     */
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    /**
+     * @return number of {@link #sanitizeName(String, String, ArrayList)} calls, resolved from cache, if metrics are enabled
+     */
+    public long getSanitizedNameCacheHits() {
+        return sanitizedNameCalls.sum() - sanitizedNameCacheMisses.sum();
+    }
+
+    /**
+     * @return number of {@link #sanitizeName(String, String, ArrayList)} calls, not resolved from cache, if metrics are enabled
+     */
+    public long getSanitizedNameCacheMisses() {
+        return sanitizedNameCacheMisses.sum();
+    }
+
+    /**
+     * @return number of {@link #fromProperty(String, Schema, boolean, boolean)} calls, resolved from cache
+     */
+    public long getSchemaCodegenPropertyCacheHits() {
+        return schemaCodegenPropertyCacheHits;
+    }
+
+    /**
+     * @return number of {@link #fromProperty(String, Schema, boolean, boolean)} calls, not resolved from cache
+     */
+    public long getSchemaCodegenPropertyCacheMisses() {
+        return schemaCodegenPropertyCacheMisses;
+    }
 
     protected void updateModelForComposedSchema(CodegenModel m, Schema schema, Map<String, Schema> allDefinitions) {
         final Schema composed = schema;
@@ -4003,9 +4049,11 @@ public class DefaultCodegen implements CodegenConfig {
         NamedSchema ns = new NamedSchema(name, p, required, schemaIsFromAdditionalProperties);
         CodegenProperty cpc = schemaCodegenPropertyCache.get(ns);
         if (cpc != null) {
+            schemaCodegenPropertyCacheHits++;
             LOGGER.debug("Cached fromProperty for {} : {} required={}", name, p.getName(), required);
             return cpc;
         }
+        schemaCodegenPropertyCacheMisses++;
 
         // if it's ref to schema's properties, get the actual schema defined in the properties
         Schema refToPropertiesSchema = ModelUtils.getSchemaFromRefToSchemaWithProperties(openAPI, p.get$ref());
@@ -6628,7 +6676,14 @@ public class DefaultCodegen implements CodegenConfig {
 
         SanitizeNameOptions opts = new SanitizeNameOptions(name, removeCharRegEx, exceptionList);
 
+        boolean countCalls = metricsEnabled;
+        if (countCalls) {
+            sanitizedNameCalls.increment();
+        }
         return sanitizedNameCache.get(opts, sanitizeNameOptions -> {
+            if (countCalls) {
+                sanitizedNameCacheMisses.increment();
+            }
             String modifiable = sanitizeNameOptions.getName();
             List<String> exceptions = sanitizeNameOptions.getExceptions();
             // input[] => input
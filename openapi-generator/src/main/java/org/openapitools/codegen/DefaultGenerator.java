@@ -15,6 +15,10 @@
  */
 package org.openapitools.codegen;
 
+import io.micronaut.openapi.generator.GeneratedFilesStatistics;
+import io.micronaut.openapi.generator.GeneratorMetrics;
+import io.micronaut.openapi.generator.MicronautMustacheEngineAdapter;
+import io.micronaut.openapi.generator.MicronautTemplateManager;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -89,6 +93,12 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -100,6 +110,7 @@ import static org.openapitools.codegen.utils.OnceLogger.once;
 @SuppressWarnings("rawtypes")
 public class DefaultGenerator implements Generator {
     private static final String METADATA_DIR = ".openapi-generator";
+    private static final String GENERATED_FILES_METADATA = "GENERATED_FILES";
     protected final Logger LOGGER = LoggerFactory.getLogger(DefaultGenerator.class);
     private final boolean dryRun;
     protected CodegenConfig config;
@@ -120,6 +131,33 @@ public class DefaultGenerator implements Generator {
     private String basePathWithoutHost;
     private String contextPath;
     private Map<String, String> generatorPropertyDefaults = new HashMap<>();
+    /**
+     * Number of threads used to render model and API files. Model maps are always built sequentially.
+     */
+    private int parallelism = 1;
+    /**
+     * Files, which rendering is deferred until model maps of the current stage are built.
+     */
+    private List<PendingFile> pendingFiles;
+    /**
+     * Delete files generated by previous run, which are not generated anymore.
+     */
+    private boolean removeStaleFiles = true;
+    private int deletedFilesCount;
+    /**
+     * Phase durations of the last generation in nanoseconds, in execution order.
+     */
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private int fromModelCount;
+    private long fromModelNanos;
+    private int fromOperationCount;
+    private long fromOperationNanos;
+    private long sanitizedNameCacheHits;
+    private long sanitizedNameCacheMisses;
+    /**
+     * Per model and per operation timings and cache counters are collected only when metrics are enabled.
+     */
+    private boolean metricsEnabled;
     /**
      *  Retrieves an instance to the configured template processor, available after user-defined options are
      *  applied via
@@ -162,11 +200,17 @@ public class DefaultGenerator implements Generator {
             if (templatingEngine instanceof MustacheEngineAdapter) {
                 MustacheEngineAdapter mustacheEngineAdapter = (MustacheEngineAdapter) templatingEngine;
                 mustacheEngineAdapter.setCompiler(this.config.processCompiler(mustacheEngineAdapter.getCompiler()));
+                // default adapter compiles template on every call, use adapter with compiled templates cache instead
+                if (templatingEngine.getClass() == MustacheEngineAdapter.class) {
+                    var cachingEngineAdapter = new MicronautMustacheEngineAdapter(this.config);
+                    cachingEngineAdapter.setCompiler(mustacheEngineAdapter.getCompiler());
+                    templatingEngine = cachingEngineAdapter;
+                }
             }
 
             TemplatePathLocator commonTemplateLocator = new CommonTemplateContentLocator();
             TemplatePathLocator generatorTemplateLocator = new GeneratorTemplateContentLocator(this.config);
-            this.templateProcessor = new TemplateManager(
+            this.templateProcessor = new MicronautTemplateManager(
                 templateManagerOptions,
                 templatingEngine,
                 new TemplatePathLocator[] {generatorTemplateLocator, commonTemplateLocator}
@@ -213,6 +257,109 @@ public class DefaultGenerator implements Generator {
         this.generatorPropertyDefaults.put(key, value);
     }
 
+    /**
+     * Set number of threads used to render model and API files. Default is 1, files are rendered sequentially.
+     * Output doesn't depend on this value: files are rendered only after all model maps of the stage are built,
+     * and the generated files list keeps the sequential order.
+     *
+     * @param parallelism number of threads
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Enable or disable removing of stale files: files, which were generated by previous run with the same
+     * input and outputs, but are not generated anymore. Generated files are tracked per generator and library in
+     * {@code .openapi-generator/GENERATED_FILES-<generator>}, so other files in output directory are never deleted.
+     * Default is true.
+     *
+     * @param removeStaleFiles true to remove stale files
+     */
+    public void setRemoveStaleFiles(boolean removeStaleFiles) {
+        this.removeStaleFiles = removeStaleFiles;
+    }
+
+    /**
+     * Returns statistics of the last generation: written, unchanged and deleted files.
+     *
+     * @return generated files statistics
+     */
+    public GeneratedFilesStatistics getGeneratedFilesStatistics() {
+        if (templateProcessor instanceof MicronautTemplateManager templateManager) {
+            return new GeneratedFilesStatistics(templateManager.getWrittenCount(), templateManager.getUnchangedCount(), deletedFilesCount);
+        }
+        return new GeneratedFilesStatistics(0, 0, deletedFilesCount);
+    }
+
+    /**
+     * Enable or disable collecting of per model and per operation timings and cache counters for
+     * {@link #getMetrics(Map)}. Phase durations, file timings and file counters are always collected,
+     * because they cost a few calls per phase or generated file. Default is false.
+     *
+     * @param metricsEnabled true to collect metrics
+     */
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    /**
+     * Returns timings and counters of the last generation. Parse and configure phases are measured by the caller,
+     * so they can be passed as additional phases, which are placed before the generator ones.
+     *
+     * @param callerPhases phases, measured by the caller: phase name to duration in nanoseconds
+     *
+     * @return generation metrics
+     */
+    public GeneratorMetrics getMetrics(Map<String, Long> callerPhases) {
+        var phases = new LinkedHashMap<String, Long>();
+        long totalNanos = 0;
+        for (var phase : callerPhases.entrySet()) {
+            phases.put(phase.getKey(), TimeUnit.NANOSECONDS.toMillis(phase.getValue()));
+            totalNanos += phase.getValue();
+        }
+        for (var phase : phaseNanos.entrySet()) {
+            phases.merge(phase.getKey(), TimeUnit.NANOSECONDS.toMillis(phase.getValue()), Long::sum);
+            totalNanos += phase.getValue();
+        }
+        long renderNanos = 0;
+        long writeNanos = 0;
+        int skippedFiles = 0;
+        if (templateProcessor instanceof MicronautTemplateManager templateManager) {
+            renderNanos = templateManager.getRenderNanos();
+            writeNanos = templateManager.getWriteNanos();
+            skippedFiles = templateManager.getSkippedFiles().size();
+        }
+        long propertyCacheHits = 0;
+        long propertyCacheMisses = 0;
+        if (config instanceof DefaultCodegen defaultCodegen) {
+            propertyCacheHits = defaultCodegen.getSchemaCodegenPropertyCacheHits();
+            propertyCacheMisses = defaultCodegen.getSchemaCodegenPropertyCacheMisses();
+        }
+        return new GeneratorMetrics(
+            TimeUnit.NANOSECONDS.toMillis(totalNanos),
+            phases,
+            fromModelCount,
+            TimeUnit.NANOSECONDS.toMillis(fromModelNanos),
+            fromOperationCount,
+            TimeUnit.NANOSECONDS.toMillis(fromOperationNanos),
+            TimeUnit.NANOSECONDS.toMillis(renderNanos),
+            TimeUnit.NANOSECONDS.toMillis(writeNanos),
+            getGeneratedFilesStatistics(),
+            skippedFiles,
+            sanitizedNameCacheHits,
+            sanitizedNameCacheMisses,
+            propertyCacheHits,
+            propertyCacheMisses
+        );
+    }
+
+    private long recordPhase(String name, long startNanos) {
+        long now = System.nanoTime();
+        phaseNanos.merge(name, now - startNanos, Long::sum);
+        return now;
+    }
+
     private Boolean getGeneratorPropertyDefaultSwitch(final String key, final Boolean defaultValue) {
         String result = null;
         if (this.generatorPropertyDefaults.containsKey(key)) {
@@ -289,6 +436,7 @@ public class DefaultGenerator implements Generator {
         }
 
         // normalize the spec
+        long phaseStart = System.nanoTime();
         try {
             if (config.getUseOpenapiNormalizer()) {
                 SemVer version = new SemVer(openAPI.getOpenapi());
@@ -302,6 +450,7 @@ public class DefaultGenerator implements Generator {
             LOGGER.error("An exception occurred in OpenAPI Normalizer. Please report the issue via https://github.com/openapitools/openapi-generator/issues/new/: ");
             e.printStackTrace();
         }
+        phaseStart = recordPhase("normalize", phaseStart);
 
         // resolve inline models
         if (config.getUseInlineModelResolver()) {
@@ -313,6 +462,7 @@ public class DefaultGenerator implements Generator {
         }
 
         config.preprocessOpenAPI(openAPI);
+        recordPhase("preprocess", phaseStart);
 
         // set OpenAPI to make these available to all methods
         config.setOpenAPI(openAPI);
@@ -422,13 +572,7 @@ public class DefaultGenerator implements Generator {
                 if (modelTestFile.exists()) {
                     this.templateProcessor.skip(modelTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                 } else {
-                    File written = processTemplateToFile(models, templateName, filename, generateModelTests, CodegenConstants.MODEL_TESTS, config.modelTestFileFolder());
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "model-test");
-                        }
-                    }
+                    processTemplateToFile(files, "model-test", models, templateName, filename, generateModelTests, CodegenConstants.MODEL_TESTS, config.modelTestFileFolder());
                 }
             } else if (dryRun) {
                 Path skippedPath = java.nio.file.Paths.get(filename);
@@ -443,32 +587,19 @@ public class DefaultGenerator implements Generator {
             String suffix = docExtension != null ? docExtension : config.modelDocTemplateFiles().get(templateName);
             String filename = config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix;
 
-            File written = processTemplateToFile(models, templateName, filename, generateModelDocumentation, CodegenConstants.MODEL_DOCS);
-            if (written != null) {
-                files.add(written);
-                if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model-doc");
-                }
-            }
+            processTemplateToFile(files, "model-doc", models, templateName, filename, generateModelDocumentation, CodegenConstants.MODEL_DOCS, config.getOutputDir());
         }
     }
 
     private void generateModel(List<File> files, Map<String, Object> models, String modelName) throws IOException {
         for (String templateName : config.modelTemplateFiles().keySet()) {
-            File written;
             if (config.templateOutputDirs().containsKey(templateName)) {
                 String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
                 String filename = config.modelFilename(templateName, modelName, outputDir);
-                written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS, outputDir);
+                processTemplateToFile(files, "model", models, templateName, filename, generateModels, CodegenConstants.MODELS, outputDir);
             } else {
                 String filename = config.modelFilename(templateName, modelName);
-                written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS);
-            }
-            if (written != null) {
-                files.add(written);
-                if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model");
-                }
+                processTemplateToFile(files, "model", models, templateName, filename, generateModels, CodegenConstants.MODELS, config.getOutputDir());
             }
         }
     }
@@ -577,7 +708,10 @@ public class DefaultGenerator implements Generator {
             }
         }
 
-        // generate files based on processed models
+        // generate files based on processed models, rendering can be done in parallel after all models are processed
+        List<PendingFile> parentPendingFiles = pendingFiles;
+        List<PendingFile> modelPendingFiles = new ArrayList<>();
+        pendingFiles = isParallelRendering() ? modelPendingFiles : null;
         for (String modelName : allProcessedModels.keySet()) {
             ModelsMap models = allProcessedModels.get(modelName);
             models.put("modelPackage", config.modelPackage());
@@ -613,9 +747,12 @@ public class DefaultGenerator implements Generator {
                 generateModelDocumentation(files, models, modelName);
 
             } catch (Exception e) {
+                pendingFiles = parentPendingFiles;
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
         }
+        pendingFiles = parentPendingFiles;
+        writePendingFiles(files, modelPendingFiles);
         if (GlobalSettings.getProperty("debugModels") != null) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
@@ -709,6 +846,9 @@ public class DefaultGenerator implements Generator {
             }
             paths = updatedPaths;
         }
+        // rendering of API files can be done in parallel after all operations are processed
+        List<PendingFile> apiPendingFiles = new ArrayList<>();
+        pendingFiles = isParallelRendering() ? apiPendingFiles : null;
         for (String tag : paths.keySet()) {
             try {
                 List<CodegenOperation> ops = paths.get(tag);
@@ -787,30 +927,23 @@ public class DefaultGenerator implements Generator {
                 addAuthenticationSwitches(operation);
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
                     if (config.templateOutputDirs().containsKey(templateName)) {
                         String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
                         String filename = config.apiFilename(templateName, tag, outputDir);
                         // do not overwrite apiController file for spring server
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
+                            processTemplateToFile(files, "api", operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     } else {
                         String filename = config.apiFilename(templateName, tag);
                         if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
+                            processTemplateToFile(files, "api", operation, templateName, filename, generateApis, CodegenConstants.APIS, config.getOutputDir());
                         } else {
                             LOGGER.info("Implementation file {} is not overwritten", filename);
                         }
                     }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
-                        }
-                    }
                 }
 
                 // to generate api test files
@@ -821,32 +954,23 @@ public class DefaultGenerator implements Generator {
                     if (apiTestFile.exists()) {
                         this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                     } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
+                        processTemplateToFile(files, "api-test", operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
                     }
                 }
 
                 // to generate api documentation files
                 for (String templateName : config.apiDocTemplateFiles().keySet()) {
                     String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
-                    }
+                    processTemplateToFile(files, "api-doc", operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS, config.getOutputDir());
                 }
 
             } catch (Exception e) {
+                pendingFiles = null;
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
+        pendingFiles = null;
+        writePendingFiles(files, apiPendingFiles);
         if (GlobalSettings.getProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
@@ -1309,6 +1433,22 @@ public class DefaultGenerator implements Generator {
             }
         }
 
+        phaseNanos.clear();
+        fromModelCount = 0;
+        fromModelNanos = 0;
+        fromOperationCount = 0;
+        fromOperationNanos = 0;
+        sanitizedNameCacheHits = 0;
+        sanitizedNameCacheMisses = 0;
+        long sanitizedNameCacheHitsStart = 0;
+        long sanitizedNameCacheMissesStart = 0;
+        if (config instanceof DefaultCodegen defaultCodegen) {
+            defaultCodegen.setMetricsEnabled(metricsEnabled);
+            sanitizedNameCacheHitsStart = defaultCodegen.getSanitizedNameCacheHits();
+            sanitizedNameCacheMissesStart = defaultCodegen.getSanitizedNameCacheMisses();
+        }
+        long phaseStart = System.nanoTime();
+
         configureGeneratorProperties();
         configureOpenAPIInfo();
 
@@ -1318,6 +1458,9 @@ public class DefaultGenerator implements Generator {
 
         // generate .openapi-generator-ignore if the option openapiGeneratorIgnoreFile is enabled
         generateOpenapiGeneratorIgnoreFile();
+        // normalize and preprocess phases are measured separately, so they are excluded from configure phase
+        long nestedPhasesNanos = phaseNanos.getOrDefault("normalize", 0L) + phaseNanos.getOrDefault("preprocess", 0L);
+        phaseStart = recordPhase("configure", phaseStart + nestedPhasesNanos);
 
         List<File> files = new ArrayList<>();
         // models
@@ -1325,15 +1468,19 @@ public class DefaultGenerator implements Generator {
         List<ModelMap> allModels = new ArrayList<>();
         List<ModelMap> aliasModels = new ArrayList<>();
         generateModels(files, allModels, filteredSchemas, aliasModels);
+        phaseStart = recordPhase("models", phaseStart);
         // apis
         List<OperationsMap> allOperations = new ArrayList<>();
         generateApis(files, allOperations, allModels);
+        phaseStart = recordPhase("apis", phaseStart);
         // webhooks
         List<WebhooksMap> allWebhooks = new ArrayList<>();
         generateWebhooks(files, allWebhooks, allModels);
+        phaseStart = recordPhase("webhooks", phaseStart);
         // supporting files
         Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
         generateSupportingFiles(files, bundle);
+        phaseStart = recordPhase("supportingFiles", phaseStart);
 
         if (dryRun) {
             boolean verbose = Boolean.parseBoolean(GlobalSettings.getProperty("verbose"));
@@ -1377,10 +1524,22 @@ public class DefaultGenerator implements Generator {
             if (generateSupportingFiles) {
                 generateFilesMetadata(files);
             }
+            if (removeStaleFiles && generateMetadata) {
+                removeStaleFiles(files);
+            }
+            GeneratedFilesStatistics statistics = getGeneratedFilesStatistics();
+            LOGGER.info("Generated files: {} written, {} unchanged, {} deleted", statistics.written(), statistics.unchanged(), statistics.deleted());
         }
+        phaseStart = recordPhase("metadata", phaseStart);
 
         // post-process
         config.postProcess();
+        recordPhase("postProcess", phaseStart);
+
+        if (config instanceof DefaultCodegen defaultCodegen) {
+            sanitizedNameCacheHits = defaultCodegen.getSanitizedNameCacheHits() - sanitizedNameCacheHitsStart;
+            sanitizedNameCacheMisses = defaultCodegen.getSanitizedNameCacheMisses() - sanitizedNameCacheMissesStart;
+        }
 
         // reset GlobalSettings, so that the running thread can be reused for another generator-run
         GlobalSettings.reset();
@@ -1465,9 +1624,36 @@ public class DefaultGenerator implements Generator {
         return processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption, this.config.getOutputDir());
     }
 
+    // lower case absolute paths of generated files, used to detect paths which differ only by case
     private final Set<String> seenFiles = new HashSet<>();
 
     private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) throws IOException {
+        File target = prepareTarget(outputFilename, shouldGenerate, skippedByOption, intendedOutputDir);
+        return target != null ? this.templateProcessor.write(templateData, templateName, target) : null;
+    }
+
+    /**
+     * Render template to file and add it to the generated files list. If rendering is deferred,
+     * template is rendered later by {@link #writePendingFiles(List, List)}.
+     */
+    private void processTemplateToFile(List<File> files, String fileType, Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) throws IOException {
+        File target = prepareTarget(outputFilename, shouldGenerate, skippedByOption, intendedOutputDir);
+        if (target == null) {
+            return;
+        }
+        if (pendingFiles != null) {
+            pendingFiles.add(new PendingFile(templateData, templateName, target, fileType));
+        } else {
+            addWrittenFile(files, this.templateProcessor.write(templateData, templateName, target), fileType);
+        }
+    }
+
+    /**
+     * Check target file and register it as seen.
+     *
+     * @return target file or null, if file is skipped or ignored
+     */
+    private File prepareTarget(String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
         File target = new File(adjustedOutputFilename);
         if (ignoreProcessor.allowsFile(target)) {
@@ -1478,11 +1664,10 @@ public class DefaultGenerator implements Generator {
                     throw new RuntimeException(String.format(Locale.ROOT, "Target files must be generated within the output directory; absoluteTarget=%s outDir=%s", absoluteTarget, outDir));
                 }
 
-                if (seenFiles.stream().anyMatch(f -> f.toLowerCase(Locale.ROOT).equals(absoluteTarget.toString().toLowerCase(Locale.ROOT)))) {
+                if (!seenFiles.add(absoluteTarget.toString().toLowerCase(Locale.ROOT))) {
                     LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. path={}", absoluteTarget.toString());
                 }
-                seenFiles.add(absoluteTarget.toString());
-                return this.templateProcessor.write(templateData, templateName, target);
+                return target;
             } else {
                 this.templateProcessor.skip(target.toPath(), String.format(Locale.ROOT, "Skipped by %s options supplied by user.", skippedByOption));
                 return null;
@@ -1493,6 +1678,77 @@ public class DefaultGenerator implements Generator {
         }
     }
 
+    /**
+     * Rendering is deferred only for parallel mode, so sequential mode keeps original order of processing and writing.
+     * Dry run status map is not thread-safe, so dry run is always sequential.
+     */
+    private boolean isParallelRendering() {
+        return parallelism > 1 && !dryRun;
+    }
+
+    private void addWrittenFile(List<File> files, File written, String fileType) {
+        if (written != null) {
+            files.add(written);
+            if (config.isEnablePostProcessFile() && !dryRun) {
+                config.postProcessFile(written, fileType);
+            }
+        }
+    }
+
+    /**
+     * Render deferred files. Templates are rendered and written by a bounded pool, but the results are added to the generated files list in the original order. Post-processing is always
+     * done on the calling thread.
+     */
+    private void writePendingFiles(List<File> files, List<PendingFile> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        if (pending.size() == 1) {
+            for (PendingFile pendingFile : pending) {
+                try {
+                    addWrittenFile(files, this.templateProcessor.write(pendingFile.templateData, pendingFile.templateName, pendingFile.target), pendingFile.fileType);
+                } catch (IOException e) {
+                    throw new RuntimeException("Could not generate file '" + pendingFile.target + "'", e);
+                }
+            }
+            return;
+        }
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, pending.size()), runnable -> {
+            Thread thread = new Thread(runnable, "openapi-generator-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<File>> futures = new ArrayList<>(pending.size());
+            for (PendingFile pendingFile : pending) {
+                futures.add(executor.submit(() -> this.templateProcessor.write(pendingFile.templateData, pendingFile.templateName, pendingFile.target)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                PendingFile pendingFile = pending.get(i);
+                try {
+                    addWrittenFile(files, futures.get(i).get(), pendingFile.fileType);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while generating file '" + pendingFile.target + "'", e);
+                } catch (ExecutionException e) {
+                    throw new RuntimeException("Could not generate file '" + pendingFile.target + "'", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record PendingFile(
+        Map<String, Object> templateData,
+        String templateName,
+        File target,
+        String fileType
+    ) {
+    }
+
     public Map<String, List<CodegenOperation>> processPaths(Paths paths) {
         Map<String, List<CodegenOperation>> ops = new TreeMap<>();
         // when input file is not valid and doesn't contain any paths
@@ -1632,7 +1888,12 @@ public class DefaultGenerator implements Generator {
                     LOGGER.info("Operation ({} {} - {}) not generated since x-internal is set to true",
                         httpMethod, resourcePath, operation.getOperationId());
                 } else {
+                    long start = metricsEnabled ? System.nanoTime() : 0;
                     CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, path.getServers());
+                    if (metricsEnabled) {
+                        fromOperationNanos += System.nanoTime() - start;
+                    }
+                    fromOperationCount++;
                     codegenOperation.tags = new ArrayList<>(tags);
                     config.addOperationToGroup(config.sanitizeTag(tag.getName()), resourcePath, operation, codegenOperation, operations);
 
@@ -1813,7 +2074,12 @@ public class DefaultGenerator implements Generator {
                 LOGGER.warn("Schema {} cannot be null in processModels", key);
                 continue;
             }
+            long start = metricsEnabled ? System.nanoTime() : 0;
             CodegenModel cm = config.fromModel(key, schema);
+            if (metricsEnabled) {
+                fromModelNanos += System.nanoTime() - start;
+            }
+            fromModelCount++;
             ModelMap mo = new ModelMap();
             mo.setModel(cm);
             mo.put("importPath", config.toModelImport(cm.classname));
@@ -2079,6 +2345,73 @@ public class DefaultGenerator implements Generator {
         }
     }
 
+    /**
+     * Deletes files listed in {@code .openapi-generator/GENERATED_FILES-<generator>} by previous run, which are not generated
+     * by this run, and updates the list. The list is kept per generator and library, so a client and a server
+     * generated to the same output directory don't delete files of each other. Nothing is deleted if input spec
+     * or generated outputs were changed, because then the previous run could generate files for another purpose.
+     *
+     * @param files The list tracking generated files
+     */
+    private void removeStaleFiles(List<File> files) {
+        deletedFilesCount = 0;
+        Path outDir = absPath(new File(config.getOutputDir())).normalize();
+        String generatorKey = StringUtils.isEmpty(config.getLibrary()) ? config.getName() : config.getName() + '-' + config.getLibrary();
+        Path metadataFile = outDir.resolve(METADATA_DIR).resolve(GENERATED_FILES_METADATA + '-' + generatorKey.replaceAll("[^\\w.-]", "_"));
+        String header = "# inputSpec=" + config.getInputSpec()
+            + ", generator=" + config.getName()
+            + ", library=" + config.getLibrary()
+            + ", models=" + generateModels
+            + ", modelTests=" + generateModelTests
+            + ", modelDocs=" + generateModelDocumentation
+            + ", apis=" + generateApis
+            + ", apiTests=" + generateApiTests
+            + ", apiDocs=" + generateApiDocumentation
+            + ", webhooks=" + generateWebhooks
+            + ", supportingFiles=" + generateSupportingFiles;
+
+        Set<Path> keptFiles = new HashSet<>();
+        if (templateProcessor instanceof MicronautTemplateManager templateManager) {
+            keptFiles.addAll(templateManager.getSkippedFiles());
+        }
+        Set<String> relativePaths = new TreeSet<>();
+        for (File file : files) {
+            if (file == null) {
+                continue;
+            }
+            Path path = absPath(file).normalize();
+            keptFiles.add(path);
+            if (path.startsWith(outDir)) {
+                relativePaths.add(outDir.relativize(path).toString().replace(File.separatorChar, '/'));
+            }
+        }
+
+        try {
+            String oldContent = Files.isRegularFile(metadataFile) ? Files.readString(metadataFile) : null;
+            if (oldContent != null && oldContent.startsWith(header + "\n")) {
+                for (String line : oldContent.substring(header.length() + 1).split("\n")) {
+                    if (line.isBlank() || relativePaths.contains(line)) {
+                        continue;
+                    }
+                    Path staleFile = outDir.resolve(line).normalize();
+                    if (staleFile.startsWith(outDir) && !keptFiles.contains(staleFile) && Files.deleteIfExists(staleFile)) {
+                        deletedFilesCount++;
+                        LOGGER.info("Deleted stale file {}", staleFile);
+                    }
+                }
+            }
+            StringBuilder sb = new StringBuilder(header).append('\n');
+            relativePaths.forEach(relativePath -> sb.append(relativePath).append('\n'));
+            String newContent = sb.toString();
+            if (!newContent.equals(oldContent)) {
+                Files.createDirectories(metadataFile.getParent());
+                Files.writeString(metadataFile, newContent);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to remove stale generated files: {}", e.getMessage());
+        }
+    }
+
     private String removeTrailingSlash(String value) {
         return StringUtils.removeEnd(value, "/");
     }
@@ -0,0 +1,55 @@
+package io.micronaut.openapi.generator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FormattingTest {
+
+    static Stream<Arguments> lineFormatterCases() {
+        return Stream.of(
+            Arguments.of("", 0, ""),
+            Arguments.of("", 1, ""),
+            Arguments.of("\n\n", 0, ""),
+            Arguments.of("\n\n", 1, ""),
+            Arguments.of("a  \n\n\n  b\t\n", 0, "\na\n  b\n"),
+            Arguments.of("a  \n\n\n  b\t\n", 1, "a\n\n  b"),
+            Arguments.of("\n\n  a\n\n\nb\n    ", 0, "\n  a\nb\n    "),
+            Arguments.of("\n\n  a\n\n\nb\n    ", 1, "\n  a\n\nb\n    "),
+            Arguments.of("a\n   \n", 0, "\na\n"),
+            Arguments.of("a\n   \n", 1, "a\n")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("lineFormatterCases")
+    void testLineFormattingWriter(String text, int maxEmptyLines, String expected) throws IOException {
+        // write in small chunks, lines are split between several writes
+        var writer = new StringWriter();
+        var formattingWriter = new Formatting.LineFormattingWriter(writer, maxEmptyLines);
+        for (int i = 0; i < text.length(); i += 3) {
+            formattingWriter.write(text, i, Math.min(3, text.length() - i));
+        }
+        formattingWriter.finish();
+
+        assertEquals(expected, writer.toString());
+    }
+
+    @Test
+    void testLineFormatterLambda() {
+        var template = Mustache.compiler().compile("A{{#format}}  \n\n\n  int a;  \n\n\n  int b;\n{{/format}}B");
+
+        var result = template.execute(Map.of("format", new Formatting.LineFormatter(1)));
+
+        assertEquals("A\n  int a;\n\n  int b;B", result);
+    }
+}
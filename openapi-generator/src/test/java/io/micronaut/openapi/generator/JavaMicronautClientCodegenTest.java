@@ -166,6 +166,18 @@ class JavaMicronautClientCodegenTest extends AbstractMicronautCodegenTest {
         assertFileNotContains(modelPath + "Pet.java", "public Pet()");
     }
 
+    @Test
+    void doGenerateCompletableFuture() {
+        var codegen = new JavaMicronautClientCodegen();
+        codegen.additionalProperties().put(JavaMicronautClientCodegen.OPT_COMPLETABLE_FUTURE, "true");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.MODELS, CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+        assertFileContains(apiPath + "PetApi.java", "import java.util.concurrent.CompletableFuture;",
+            "CompletableFuture<Void> deletePet(", "CompletableFuture<@Valid Pet>");
+        assertFileNotContains(apiPath + "PetApi.java", "Mono", "Flux");
+    }
+
     @Test
     void doNotGenerateRequiredPropertiesInConstructor() {
         var codegen = new JavaMicronautClientCodegen();
@@ -240,6 +240,64 @@ class JavaMicronautServerCodegenTest extends AbstractMicronautCodegenTest {
         assertFileNotContains(apiPath + "PetApi.java", "HttpResponse");
     }
 
+    @Test
+    void doGenerateCompletableFuture() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_COMPLETABLE_FUTURE, "true");
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_EXECUTE_ON, "virtual");
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_GENERATE_HTTP_RESPONSE_ALWAYS, "false");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.MODELS, CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+        assertFileContains(apiPath + "PetApi.java", "import java.util.concurrent.CompletableFuture;",
+            "CompletableFuture<Void> deletePet(", "CompletableFuture<@Valid Pet>");
+        assertFileNotContains(apiPath + "PetApi.java", "Mono", "Flux", "@ExecuteOn");
+        assertFileContains(outputPath + "src/main/java/org/openapitools/controller/PetController.java",
+            "return CompletableFuture.failedFuture(new HttpStatusException(HttpStatus.NOT_IMPLEMENTED, null));");
+    }
+
+    @Test
+    void doGenerateExecuteOn() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_REACTIVE, "false");
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_EXECUTE_ON, "virtual");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.MODELS, CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+        assertFileContains(apiPath + "PetApi.java", "import io.micronaut.scheduling.annotation.ExecuteOn;",
+            "import io.micronaut.scheduling.TaskExecutors;", "@ExecuteOn(TaskExecutors.VIRTUAL)");
+    }
+
+    @Test
+    void doGenerateExecuteOnStandardAndCustomExecutors() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_REACTIVE, "false");
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_EXECUTE_ON, "consumer");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.MODELS, CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+        assertFileContains(apiPath + "PetApi.java", "@ExecuteOn(TaskExecutors.MESSAGE_CONSUMER)");
+
+        codegen = new JavaMicronautServerCodegen();
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_REACTIVE, "false");
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_EXECUTE_ON, "my$executor");
+        outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.MODELS, CodegenConstants.APIS);
+
+        apiPath = outputPath + "src/main/java/org/openapitools/api/";
+        assertFileContains(apiPath + "PetApi.java", "@ExecuteOn(\"my$executor\")");
+    }
+
+    @Test
+    void doGenerateExecuteOnReactive() {
+        var codegen = new JavaMicronautServerCodegen();
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_REACTIVE, "true");
+        codegen.additionalProperties().put(JavaMicronautServerCodegen.OPT_EXECUTE_ON, "virtual");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.MODELS, CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/java/org/openapitools/api/";
+        assertFileNotContains(apiPath + "PetApi.java", "@ExecuteOn");
+    }
+
     @Test
     void doGenerateWrapHttpResponse() {
         var codegen = new JavaMicronautServerCodegen();
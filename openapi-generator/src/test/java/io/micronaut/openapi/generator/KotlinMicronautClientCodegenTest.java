@@ -469,6 +469,26 @@ class KotlinMicronautClientCodegenTest extends AbstractMicronautCodegenTest {
         assertFileContains(modelPath + "DecimalEnum.kt", "@JsonProperty(\"1.23\")", "NUMBER_34_DOT_1(BigDecimal(\"34.1\"))");
     }
 
+    @Test
+    void testCoroutines() {
+        var codegen = new KotlinMicronautClientCodegen();
+        codegen.additionalProperties().put(KotlinMicronautClientCodegen.OPT_COROUTINES, "true");
+        codegen.additionalProperties().put(KotlinMicronautClientCodegen.OPT_TEST, KotlinMicronautClientCodegen.OPT_TEST_JUNIT);
+        codegen.additionalProperties().put(KotlinMicronautClientCodegen.OPT_GENERATE_HTTP_RESPONSE_WHERE_REQUIRED, "false");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.APIS, CodegenConstants.API_TESTS);
+        String path = outputPath + "src/main/kotlin/org/openapitools/";
+
+        assertFileContains(path + "api/PetApi.kt",
+            "import kotlinx.coroutines.flow.Flow",
+            "suspend fun getPetById(",
+            "suspend fun deletePet(",
+            "): Flow<Pet>");
+        assertFileNotContains(path + "api/PetApi.kt", "Mono", "suspend fun findPetsByStatus(");
+        assertFileContains(outputPath + "src/test/kotlin/org/openapitools/api/PetApiTest.kt",
+            "fun getPetByIdTest() = runBlocking<Unit> {",
+            ".toList()");
+    }
+
     @Test
     void testReservedWords() {
 
@@ -253,6 +253,46 @@ class KotlinMicronautServerCodegenTest extends AbstractMicronautCodegenTest {
         assertFileNotContains(apiPath + "PetApi.kt", "HttpResponse");
     }
 
+    @Test
+    void doGenerateCoroutines() {
+        var codegen = new KotlinMicronautServerCodegen();
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_REACTIVE, "true");
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_COROUTINES, "true");
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_GENERATE_HTTP_RESPONSE_ALWAYS, "false");
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_GENERATE_OPERATIONS_TO_RETURN_NOT_IMPLEMENTED, "false");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.MODELS, CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+        assertFileContains(apiPath + "PetApi.kt", "import kotlinx.coroutines.flow.Flow", "suspend fun getPetById(", "): Pet", "): Flow<Pet>");
+        assertFileNotContains(apiPath + "PetApi.kt", "Mono", "suspend fun findPetsByStatus(");
+        assertFileContains(outputPath + "src/main/kotlin/org/openapitools/controller/PetController.kt",
+            "override suspend fun getPetById(", "return emptyFlow()");
+    }
+
+    @Test
+    void doGenerateExecuteOn() {
+        var codegen = new KotlinMicronautServerCodegen();
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_REACTIVE, "false");
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_EXECUTE_ON, "blocking");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.MODELS, CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+        assertFileContains(apiPath + "PetApi.kt", "import io.micronaut.scheduling.annotation.ExecuteOn",
+            "import io.micronaut.scheduling.TaskExecutors", "@ExecuteOn(TaskExecutors.BLOCKING)");
+    }
+
+    @Test
+    void doGenerateExecuteOnCustomExecutor() {
+        var codegen = new KotlinMicronautServerCodegen();
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_REACTIVE, "false");
+        codegen.additionalProperties().put(KotlinMicronautServerCodegen.OPT_EXECUTE_ON, "my$executor");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.MODELS, CodegenConstants.APIS);
+
+        String apiPath = outputPath + "src/main/kotlin/org/openapitools/api/";
+        assertFileContains(apiPath + "PetApi.kt", "@ExecuteOn(\"my\\$executor\")");
+        assertFileNotContains(apiPath + "PetApi.kt", "import io.micronaut.scheduling.TaskExecutors");
+    }
+
     @Test
     void doGenerateWrapHttpResponse() {
         var codegen = new KotlinMicronautServerCodegen();
@@ -1,12 +1,23 @@
 package io.micronaut.openapi.generator;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MicronautCodeGeneratorEntryPointTest {
 
@@ -21,6 +32,146 @@ class MicronautCodeGeneratorEntryPointTest {
         assertEquals("Hello", generator.value);
     }
 
+    @Test
+    @DisplayName("Parallel generation produces the same files as sequential")
+    void testParallelGeneration() throws IOException {
+        var sequential = generate(1);
+        var parallel = generate(4);
+        assertFalse(sequential.isEmpty());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("Cached templates produce the same files as compiled ones")
+    void testTemplateCache() throws IOException {
+        MicronautMustacheEngineAdapter.clearCache();
+        var compiled = generate(1);
+        var cached = generate(1);
+        assertFalse(compiled.isEmpty());
+        assertEquals(compiled, cached);
+    }
+
+    @Test
+    @DisplayName("Unchanged files are not rewritten and stale files are removed")
+    void testWriteIfChanged() throws IOException {
+        var output = Files.createTempDirectory("test").toFile().getCanonicalFile();
+        output.deleteOnExit();
+        generate(output, 1);
+
+        var metadata = generatedFilesMetadata(output, JavaMicronautClientCodegen.NAME);
+        var generatedFile = output.toPath().resolve(Files.readAllLines(metadata).get(1));
+        var lastModified = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(generatedFile, lastModified);
+
+        var staleFile = generatedFile.resolveSibling("Stale.java");
+        Files.writeString(staleFile, "class Stale {}");
+        Files.writeString(metadata, output.toPath().relativize(staleFile).toString().replace(File.separatorChar, '/') + "\n", StandardOpenOption.APPEND);
+        var notGeneratedFile = generatedFile.resolveSibling("Custom.java");
+        Files.writeString(notGeneratedFile, "class Custom {}");
+
+        generate(output, 1);
+
+        assertEquals(lastModified, Files.getLastModifiedTime(generatedFile));
+        assertFalse(Files.exists(staleFile));
+        assertTrue(Files.exists(notGeneratedFile));
+    }
+
+    @Test
+    @DisplayName("Client and server generated to the same directory don't remove files of each other")
+    void testClientAndServerInSameDirectory() throws IOException {
+        var output = Files.createTempDirectory("test").toFile().getCanonicalFile();
+        output.deleteOnExit();
+        generate(output, 1);
+        generateServer(output);
+
+        var serverMetadata = generatedFilesMetadata(output, JavaMicronautServerCodegen.NAME);
+        var lines = Files.readAllLines(serverMetadata);
+        var serverFiles = lines.subList(1, lines.size());
+        assertFalse(serverFiles.isEmpty());
+        assertFalse(serverMetadata.equals(generatedFilesMetadata(output, JavaMicronautClientCodegen.NAME)));
+
+        generate(output, 1);
+        generateServer(output);
+
+        for (var serverFile : serverFiles) {
+            assertTrue(Files.exists(output.toPath().resolve(serverFile)), serverFile);
+        }
+    }
+
+    @Test
+    @DisplayName("Generation metrics are returned and written to JSON file")
+    void testMetrics() throws IOException {
+        var output = Files.createTempDirectory("test").toFile().getCanonicalFile();
+        output.deleteOnExit();
+        var metricsFile = new File(output, "build/metrics.json");
+
+        var metrics = MicronautCodeGeneratorEntryPoint.builder()
+            .forJavaClient(spec -> {
+            })
+            .withOptions(options -> options.withMetricsFile(metricsFile))
+            .withDefinitionFile(new File("src/test/resources/petstore.json").toURI())
+            .withOutputDirectory(new File(output, "generated"))
+            .withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind.MODELS, MicronautCodeGeneratorEntryPoint.OutputKind.APIS)
+            .build()
+            .generateWithMetrics();
+
+        assertTrue(metrics.schemas() > 0);
+        assertTrue(metrics.operations() > 0);
+        assertTrue(metrics.files().written() > 0);
+        assertTrue(metrics.sanitizedNameCacheHits() + metrics.sanitizedNameCacheMisses() > 0);
+        assertEquals(List.of("parse", "configure", "normalize", "preprocess", "models", "apis", "webhooks", "supportingFiles", "metadata", "postProcess"),
+            List.copyOf(metrics.phases().keySet()));
+        var json = Files.readString(metricsFile.toPath());
+        assertTrue(json.contains("\"schemas\" : " + metrics.schemas()));
+        assertTrue(json.contains("\"fromOperationMillis\""));
+    }
+
+    private static Map<String, String> generate(int parallelism) throws IOException {
+        var output = Files.createTempDirectory("test").toFile().getCanonicalFile();
+        output.deleteOnExit();
+        generate(output, parallelism);
+
+        var files = new TreeMap<String, String>();
+        try (var paths = Files.walk(output.toPath())) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                files.put(output.toPath().relativize(path).toString(), Files.readString(path));
+            }
+        }
+        return files;
+    }
+
+    private static void generate(File output, int parallelism) {
+        MicronautCodeGeneratorEntryPoint.builder()
+            .forJavaClient(spec -> {
+            })
+            .withOptions(options -> options.withParallelism(parallelism))
+            .withDefinitionFile(new File("src/test/resources/petstore.json").toURI())
+            .withOutputDirectory(output)
+            .withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind.MODELS, MicronautCodeGeneratorEntryPoint.OutputKind.APIS)
+            .build()
+            .generate();
+    }
+
+    private static void generateServer(File output) {
+        MicronautCodeGeneratorEntryPoint.builder()
+            .forJavaServer(spec -> {
+            })
+            .withDefinitionFile(new File("src/test/resources/petstore.json").toURI())
+            .withOutputDirectory(output)
+            .withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind.MODELS, MicronautCodeGeneratorEntryPoint.OutputKind.APIS)
+            .build()
+            .generate();
+    }
+
+    private static Path generatedFilesMetadata(File output, String generatorName) throws IOException {
+        try (var files = Files.list(output.toPath().resolve(".openapi-generator"))) {
+            return files
+                .filter(file -> file.getFileName().toString().startsWith("GENERATED_FILES-" + generatorName))
+                .findFirst()
+                .orElseThrow();
+        }
+    }
+
     private static class TestGenerator extends AbstractMicronautJavaCodegen<TestBuilder> {
 
         private String value;
@@ -0,0 +1,146 @@
+package io.micronaut.openapi.generator;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MicronautInlineModelResolverTest {
+
+    @Test
+    void testIdenticalInlineSchemasReused() {
+        var openApi = openApi(
+            new ObjectSchema().addProperty("id", new IntegerSchema()).addProperty("name", new StringSchema()),
+            new ObjectSchema().addProperty("id", new IntegerSchema()).addProperty("name", new StringSchema())
+        );
+        new MicronautInlineModelResolver(openApi).flatten();
+
+        var schemas = openApi.getComponents().getSchemas();
+        assertTrue(schemas.containsKey("op0_200_response"));
+        assertFalse(schemas.containsKey("op1_200_response"));
+        assertEquals("#/components/schemas/op0_200_response", responseSchema(openApi, 1).get$ref());
+    }
+
+    @Test
+    void testInlineSchemasWithSameHashNotMerged() {
+        // minimum is not a part of structural hash, so schemas are distinguished only by equality check
+        var openApi = openApi(
+            new ObjectSchema().addProperty("id", new IntegerSchema().minimum(BigDecimal.ONE)),
+            new ObjectSchema().addProperty("id", new IntegerSchema().minimum(BigDecimal.TEN))
+        );
+        new MicronautInlineModelResolver(openApi).flatten();
+
+        var schemas = openApi.getComponents().getSchemas();
+        assertTrue(schemas.containsKey("op0_200_response"));
+        assertTrue(schemas.containsKey("op1_200_response"));
+        assertEquals("#/components/schemas/op1_200_response", responseSchema(openApi, 1).get$ref());
+    }
+
+    @Test
+    void testRegisteredSchemaMutatedAfterRegistration() {
+        var openApi = openApi(
+            new ObjectSchema().addProperty("id", new IntegerSchema()).addProperty("name", new StringSchema())
+        );
+        var resolver = new MicronautInlineModelResolver(openApi);
+        resolver.flattenPaths();
+
+        // registered schema is changed after registration, matching uses the registered form
+        var registered = openApi.getComponents().getSchemas().get("op0_200_response");
+        registered.addProperty("extra", new StringSchema());
+
+        var content = new Content().addMediaType("application/json", new MediaType().schema(
+            new ObjectSchema().addProperty("id", new IntegerSchema()).addProperty("name", new StringSchema())));
+        openApi.getPaths().addPathItem("/op1", new PathItem().get(new Operation()
+            .operationId("op1")
+            .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK").content(content)))));
+        resolver.flattenPaths();
+
+        var schemas = openApi.getComponents().getSchemas();
+        assertFalse(schemas.containsKey("op1_200_response"));
+        assertEquals("#/components/schemas/op0_200_response", responseSchema(openApi, 1).get$ref());
+    }
+
+    @Test
+    void testAllOfWithEqualTypesGeneratesModel() {
+        var openApi = openApi();
+        openApi.getComponents().addSchemas("Obj", new ObjectSchema()
+            .addProperty("code", new ComposedSchema()
+                .addAllOfItem(new StringSchema().maxLength(5))
+                .addAllOfItem(new StringSchema().maxLength(5))));
+        new MicronautInlineModelResolver(openApi).flatten();
+
+        var schemas = openApi.getComponents().getSchemas();
+        assertTrue(schemas.containsKey("Obj_code"));
+        assertEquals("#/components/schemas/Obj_code", schemas.get("Obj").getProperties().get("code").get$ref());
+    }
+
+    @Test
+    void testSharedInlineSchema() {
+        var address = new ObjectSchema()
+            .addProperty("street", new StringSchema())
+            .addProperty("city", new StringSchema());
+        var openApi = openApi();
+        openApi.getComponents().addSchemas("Person", new ObjectSchema()
+            .addProperty("home", address)
+            .addProperty("work", address));
+        new MicronautInlineModelResolver(openApi).flatten();
+
+        var schemas = openApi.getComponents().getSchemas();
+        var properties = schemas.get("Person").getProperties();
+        assertEquals("#/components/schemas/Person_home", properties.get("home").get$ref());
+        assertEquals("#/components/schemas/Person_home", properties.get("work").get$ref());
+        assertFalse(schemas.containsKey("Person_work"));
+    }
+
+    @Test
+    void testDeeplyNestedInlineSchemas() {
+        int depth = 500;
+        Schema<?> schema = new ObjectSchema().addProperty("value", new StringSchema());
+        for (int i = 0; i < depth; i++) {
+            schema = new ObjectSchema().addProperty("child", schema);
+        }
+        var openApi = openApi();
+        openApi.getComponents().addSchemas("Root", schema);
+        new MicronautInlineModelResolver(openApi).flatten();
+
+        var schemas = openApi.getComponents().getSchemas();
+        assertEquals(depth + 1, schemas.size());
+        assertEquals("#/components/schemas/Root_child", schemas.get("Root").getProperties().get("child").get$ref());
+    }
+
+    private static OpenAPI openApi(Schema<?>... responseSchemas) {
+        var paths = new Paths();
+        for (int i = 0; i < responseSchemas.length; i++) {
+            var content = new Content().addMediaType("application/json", new MediaType().schema(responseSchemas[i]));
+            paths.addPathItem("/op" + i, new PathItem().get(new Operation()
+                .operationId("op" + i)
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK").content(content)))));
+        }
+        return new OpenAPI()
+            .paths(paths)
+            .components(new Components().schemas(new LinkedHashMap<>()));
+    }
+
+    private static Schema<?> responseSchema(OpenAPI openApi, int operation) {
+        return openApi.getPaths().get("/op" + operation).getGet().getResponses().get("200")
+            .getContent().get("application/json").getSchema();
+    }
+}
@@ -0,0 +1,105 @@
+package io.micronaut.openapi.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.DefaultGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class OpenApiDefinitionCacheTest {
+
+    @Test
+    void testCachedDefinitionIsCopied() {
+        var definition = new File("src/test/resources/petstore.json").toURI();
+        var opts = new ParseOptions();
+        opts.setResolve(true);
+
+        OpenApiDefinitionCache.clear();
+        var first = OpenApiDefinitionCache.parse(definition, opts);
+        assertNotNull(first);
+        var title = first.getInfo().getTitle();
+        var schemaCount = first.getComponents().getSchemas().size();
+
+        // mutations of one caller are not visible to others
+        first.getInfo().setTitle("Changed");
+        first.getComponents().getSchemas().clear();
+
+        var second = OpenApiDefinitionCache.parse(definition, opts);
+        var third = OpenApiDefinitionCache.parse(definition, opts);
+        assertNotSame(second, third);
+        assertEquals(title, second.getInfo().getTitle());
+        assertEquals(schemaCount, second.getComponents().getSchemas().size());
+
+        second.getComponents().getSchemas().clear();
+        assertEquals(schemaCount, third.getComponents().getSchemas().size());
+    }
+
+    @Test
+    void testCacheMissReturnsParserResult() {
+        var definition = new File("src/test/resources/petstore.json").toURI();
+        var opts = new ParseOptions();
+        opts.setResolve(true);
+
+        OpenApiDefinitionCache.clear();
+        var miss = OpenApiDefinitionCache.parse(definition, opts);
+        var direct = new OpenAPIParser().readLocation(definition.toString(), null, opts).getOpenAPI();
+        assertEquals(direct, miss);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"src/test/resources/petstore.json", "src/test/resources/3_1/petstore.yml"})
+    void testCacheHitGeneratesSameSourcesAsParser(String definitionPath) throws IOException {
+        var definition = new File(definitionPath).toURI();
+        var opts = new ParseOptions();
+        opts.setResolve(true);
+
+        OpenApiDefinitionCache.clear();
+        OpenApiDefinitionCache.parse(definition, opts);
+        var hit = OpenApiDefinitionCache.parse(definition, opts);
+        var direct = new OpenAPIParser().readLocation(definition.toString(), null, opts).getOpenAPI();
+
+        var hitSources = generate(hit);
+        assertFalse(hitSources.isEmpty());
+        assertEquals(generate(direct), hitSources);
+    }
+
+    private static Map<String, String> generate(OpenAPI openApi) throws IOException {
+        var output = Files.createTempDirectory("test").toFile().getCanonicalFile();
+        output.deleteOnExit();
+
+        var codegen = new JavaMicronautClientCodegen();
+        codegen.setOutputDir(output.getAbsolutePath());
+        codegen.setHideGenerationTimestamp(true);
+        var generator = new DefaultGenerator();
+        for (var outputKind : MicronautCodeGeneratorEntryPoint.OutputKind.values()) {
+            generator.setGeneratorPropertyDefault(outputKind.getGeneratorProperty(), "false");
+        }
+        generator.setGeneratorPropertyDefault(CodegenConstants.MODELS, "true");
+        generator.setGeneratorPropertyDefault(CodegenConstants.APIS, "true");
+        generator.opts(new ClientOptInput().openAPI(openApi).config(codegen)).generate();
+
+        var files = new TreeMap<String, String>();
+        try (var paths = Files.walk(output.toPath())) {
+            for (Path path : paths.filter(path -> Files.isRegularFile(path) && path.toString().endsWith(".java")).toList()) {
+                files.put(output.toPath().relativize(path).toString(), Files.readString(path));
+            }
+        }
+        return files;
+    }
+}
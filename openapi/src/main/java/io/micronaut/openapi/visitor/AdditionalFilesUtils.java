@@ -0,0 +1,214 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.ast.Element;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.micronaut.openapi.visitor.ContextUtils.info;
+import static io.micronaut.openapi.visitor.ContextUtils.warn;
+
+/**
+ * Reader for additional OpenAPI files (see {@link OpenApiConfigProperty#MICRONAUT_OPENAPI_ADDITIONAL_FILES}).
+ * <p>
+ * Files are parsed in parallel, but results are always returned in file name order, so merge result is deterministic.
+ * Optionally, parsed files can be persisted to cache file (see {@link OpenApiConfigProperty#MICRONAUT_OPENAPI_ADDITIONAL_FILES_CACHE})
+ * with their path, size and last modified time, so unchanged files are not parsed again by next builds.
+ * Cache file is read once per call and nothing is kept in memory between compilations.
+ *
+ * @since 6.13.1
+ */
+@Internal
+public final class AdditionalFilesUtils {
+
+    private static final int CACHE_VERSION = 1;
+    private static final String CACHE_PROP_VERSION = "version";
+    private static final String CACHE_PROP_OPENAPI31 = "openapi31";
+    private static final String CACHE_PROP_FILES = "files";
+    private static final String CACHE_PROP_SIZE = "size";
+    private static final String CACHE_PROP_LAST_MODIFIED = "lastModified";
+    private static final String CACHE_PROP_CONTENT = "content";
+
+    private AdditionalFilesUtils() {
+    }
+
+    /**
+     * Read all YAML and JSON files from directory.
+     *
+     * @param directory directory with additional files
+     * @param cacheFile persisted cache file, can be null
+     * @param element the element
+     * @param context the visitor context
+     *
+     * @return parsed OpenAPI objects in file name order
+     *
+     * @throws IOException if directory can't be read
+     */
+    public static List<OpenAPI> readAdditionalFiles(Path directory, @Nullable Path cacheFile, Element element, VisitorContext context) throws IOException {
+        List<Path> files;
+        try (var paths = Files.list(directory)) {
+            files = paths
+                .filter(path -> {
+                    var pathStr = path.toString().toLowerCase();
+                    return Files.isRegularFile(path) && (FileUtils.isYaml(pathStr) || FileUtils.isJson(pathStr));
+                })
+                .map(path -> path.toAbsolutePath().normalize())
+                .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                .toList();
+        }
+        if (files.isEmpty()) {
+            return List.of();
+        }
+
+        boolean openapi31 = Utils.isOpenapi31();
+        Map<Path, CachedFile> cache = cacheFile != null ? loadCache(cacheFile, openapi31, context) : Map.of();
+
+        // parallel stream keeps encounter order in toList()
+        List<ParsedFile> parsedFiles = files.parallelStream()
+            .map(path -> parse(path, cache.get(path)))
+            .toList();
+
+        var result = new ArrayList<OpenAPI>(parsedFiles.size());
+        // only existing files are saved, so removed files are forgotten
+        var newCache = new HashMap<Path, CachedFile>();
+        boolean cacheChanged = cache.size() != files.size();
+        for (var parsedFile : parsedFiles) {
+            var fileName = parsedFile.path.getFileName();
+            info("Reading Swagger OpenAPI " + (parsedFile.yaml ? "YAML" : "JSON") + " file " + fileName + (parsedFile.fromCache ? " (cached)" : ""), context);
+            if (parsedFile.error != null) {
+                warn("Unable to read file " + fileName + ": " + parsedFile.error, context, element);
+                cacheChanged = true;
+                continue;
+            }
+            cacheChanged |= !parsedFile.fromCache;
+            newCache.put(parsedFile.path, parsedFile.cachedFile);
+            result.add(parsedFile.openApi);
+        }
+
+        if (cacheFile != null && cacheChanged) {
+            saveCache(cacheFile, newCache, openapi31, context);
+        }
+
+        return result;
+    }
+
+    private static ParsedFile parse(Path path, @Nullable CachedFile cached) {
+        boolean isYaml = FileUtils.isYaml(path.toString().toLowerCase());
+        ObjectMapper mapper = isYaml ? Utils.getYamlMapper() : Utils.getJsonMapper();
+        try {
+            long size = Files.size(path);
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            boolean fromCache = cached != null && cached.matches(size, lastModified);
+            JsonNode tree = fromCache ? cached.content : mapper.readTree(path.toFile());
+            // tree is bound with the same mapper as the file, so cached and parsed files give the same result
+            return new ParsedFile(path, isYaml, mapper.treeToValue(tree, OpenAPI.class), new CachedFile(size, lastModified, tree), fromCache, null);
+        } catch (IOException | RuntimeException e) {
+            return new ParsedFile(path, isYaml, null, null, false, e.getMessage());
+        }
+    }
+
+    private static Map<Path, CachedFile> loadCache(Path cacheFile, boolean openapi31, VisitorContext context) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return Map.of();
+        }
+        try {
+            JsonNode root = Utils.getJsonMapper().readTree(cacheFile.toFile());
+            if (root.path(CACHE_PROP_VERSION).asInt() != CACHE_VERSION
+                || root.path(CACHE_PROP_OPENAPI31).asBoolean() != openapi31) {
+                return Map.of();
+            }
+            var cache = new HashMap<Path, CachedFile>();
+            var filesNode = root.path(CACHE_PROP_FILES);
+            var fieldNames = filesNode.fieldNames();
+            while (fieldNames.hasNext()) {
+                var pathStr = fieldNames.next();
+                var entry = filesNode.get(pathStr);
+                var content = entry.get(CACHE_PROP_CONTENT);
+                if (content != null) {
+                    cache.put(Path.of(pathStr), new CachedFile(entry.path(CACHE_PROP_SIZE).asLong(-1), entry.path(CACHE_PROP_LAST_MODIFIED).asLong(-1), content));
+                }
+            }
+            return cache;
+        } catch (IOException | RuntimeException e) {
+            warn("Unable to read additional files cache " + cacheFile + ": " + e.getMessage(), context);
+            return Map.of();
+        }
+    }
+
+    private static void saveCache(Path cacheFile, Map<Path, CachedFile> cache, boolean openapi31, VisitorContext context) {
+        ObjectMapper mapper = Utils.getJsonMapper();
+        ObjectNode root = mapper.createObjectNode();
+        root.put(CACHE_PROP_VERSION, CACHE_VERSION);
+        root.put(CACHE_PROP_OPENAPI31, openapi31);
+        ObjectNode filesNode = root.putObject(CACHE_PROP_FILES);
+        cache.forEach((path, cachedFile) -> {
+            ObjectNode entry = filesNode.putObject(path.toString());
+            entry.put(CACHE_PROP_SIZE, cachedFile.size);
+            entry.put(CACHE_PROP_LAST_MODIFIED, cachedFile.lastModified);
+            entry.set(CACHE_PROP_CONTENT, cachedFile.content);
+        });
+        try {
+            FileUtils.createDirectories(cacheFile, context);
+            var tmpFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+            mapper.writeValue(tmpFile.toFile(), root);
+            try {
+                Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            warn("Unable to write additional files cache " + cacheFile + ": " + e.getMessage(), context);
+        }
+    }
+
+    private record CachedFile(
+        long size,
+        long lastModified,
+        JsonNode content
+    ) {
+
+        boolean matches(long size, long lastModified) {
+            return this.size == size && this.lastModified == lastModified;
+        }
+    }
+
+    private record ParsedFile(
+        Path path,
+        boolean yaml,
+        OpenAPI openApi,
+        CachedFile cachedFile,
+        boolean fromCache,
+        String error
+    ) {
+    }
+}
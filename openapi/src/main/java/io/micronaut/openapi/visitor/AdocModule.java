@@ -20,12 +20,29 @@ import io.micronaut.inject.visitor.VisitorContext;
 import io.micronaut.openapi.adoc.OpenApiToAdocConverter;
 import io.micronaut.openapi.visitor.group.OpenApiInfo;
 
-import java.io.StringWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.micronaut.openapi.visitor.ContextUtils.addGeneratedResource;
 import static io.micronaut.openapi.visitor.ContextUtils.info;
@@ -39,6 +56,8 @@ import static io.micronaut.openapi.visitor.FileUtils.getDefaultFilePath;
 import static io.micronaut.openapi.visitor.FileUtils.resolve;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_SPLIT;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Method to convert final openapi file to adoc format.
@@ -47,6 +66,8 @@ import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENA
  */
 public final class AdocModule {
 
+    private static final String HASH_ALGORITHM = "SHA-256";
+
     private AdocModule() {
     }
 
@@ -58,30 +79,190 @@ public final class AdocModule {
      * @param context visitor context
      */
     public static void convert(OpenApiInfo openApiInfo, Map<String, String> props, VisitorContext context) {
+        convert(List.of(Pair.of(openApiInfo, props)), false, context);
+    }
+
+    /**
+     * Convert and save to files openAPI objects of several groups in adoc format.
+     * <p>
+     * Every document is rendered directly to temporary file, which replaces output file only when content is changed.
+     * If several groups have the same adoc file, documents are appended to it in groups order. In split mode,
+     * output file is the root document, which includes separate files for every tag and schema group.
+     * <p>
+     * Split documents can't share the root file, so for every next group with the same output file
+     * a separate root file with the group name (or version) suffix is written next to it.
+     * <p>
+     * Documents with different output files can be rendered in parallel. With several groups, converter works
+     * with copies of openAPI objects, because groups can share schemas and other parts of the document.
+     * The only group is converted without copying.
+     *
+     * @param groups openApiInfo objects with openapi-adoc properties
+     * @param parallel render documents with different output files in parallel
+     * @param context visitor context
+     */
+    public static void convert(List<Pair<OpenApiInfo, Map<String, String>>> groups, boolean parallel, VisitorContext context) {
 
+        var groupsByPath = new LinkedHashMap<Path, List<Pair<OpenApiInfo, Map<String, String>>>>();
+        for (var group : groups) {
+            try {
+                var outputPath = getOutputPath(group.getFirst(), group.getSecond(), context);
+                info("Writing AsciiDoc OpenAPI file to destination: " + outputPath, context);
+                var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+                if (classesOutputPath != null) {
+                    // add relative paths for the specPath, and its parent META-INF/swagger
+                    // so that micronaut-graal visitor knows about them
+                    addGeneratedResource(classesOutputPath.relativize(outputPath).toString(), context);
+                }
+                groupsByPath.computeIfAbsent(outputPath, k -> new ArrayList<>()).add(group);
+            } catch (Exception e) {
+                warn("Can't convert to ADoc format\n" + Utils.printStackTrace(e), context);
+            }
+        }
+
+        // one task for every output file to keep order of appended documents
+        var copy = groups.size() > 1;
+        var tasks = new ArrayList<Callable<List<Message>>>(groupsByPath.size());
+        groupsByPath.forEach((outputPath, pathGroups) -> tasks.add(() -> write(outputPath, pathGroups, copy)));
+
+        List<List<Message>> results;
+        if (!parallel || tasks.size() < 2) {
+            results = new ArrayList<>(tasks.size());
+            for (var task : tasks) {
+                results.add(runTask(task));
+            }
+        } else {
+            results = runParallel(tasks);
+        }
+
+        // visitor context is not thread-safe, so messages are printed after rendering
+        for (var messages : results) {
+            for (var message : messages) {
+                if (message.warning()) {
+                    warn(message.text(), context);
+                } else {
+                    info(message.text(), context);
+                }
+            }
+        }
+    }
+
+    private static List<List<Message>> runParallel(List<Callable<List<Message>>> tasks) {
+        var threadCounter = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()), runnable -> {
+            var thread = new Thread(runnable, "openapi-adoc-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
         try {
-            var writer = new StringWriter();
-            OpenApiToAdocConverter.convert(openApiInfo.getOpenApi(), props, writer);
-
-            var adoc = writer.toString();
-
-            var outputPath = getOutputPath(openApiInfo, props, context);
-            info("Writing AsciiDoc OpenAPI file to destination: " + outputPath, context);
-            var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-            if (classesOutputPath != null) {
-                // add relative paths for the specPath, and its parent META-INF/swagger
-                // so that micronaut-graal visitor knows about them
-                addGeneratedResource(classesOutputPath.relativize(outputPath).toString(), context);
+            var futures = new ArrayList<Future<List<Message>>>(tasks.size());
+            for (var task : tasks) {
+                futures.add(executor.submit(() -> runTask(task)));
+            }
+            var results = new ArrayList<List<Message>>(futures.size());
+            for (var future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    results.add(List.of(Message.warn("AsciiDoc generation is interrupted")));
+                } catch (ExecutionException e) {
+                    results.add(List.of(Message.warn("Can't convert to ADoc format\n" + Utils.printStackTrace(e.getCause()))));
+                }
             }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Message> runTask(Callable<List<Message>> task) {
+        try {
+            return task.call();
+        } catch (Exception e) {
+            return List.of(Message.warn("Can't convert to ADoc format\n" + Utils.printStackTrace(e)));
+        }
+    }
 
-            if (Files.exists(outputPath)) {
-                Files.writeString(outputPath, adoc, StandardOpenOption.APPEND);
+    /**
+     * Write documents of all groups with the same output file.
+     *
+     * @return messages for visitor context
+     */
+    private static List<Message> write(Path outputPath, List<Pair<OpenApiInfo, Map<String, String>>> groups, boolean copy) throws Exception {
+        var messages = new ArrayList<Message>();
+        var first = true;
+        var index = 0;
+        for (var group : groups) {
+            var openApiInfo = group.getFirst();
+            var props = group.getSecond();
+            if (Boolean.parseBoolean(props.get(MICRONAUT_OPENAPI_ADOC_SPLIT))) {
+                var splitPath = outputPath;
+                if (!first) {
+                    splitPath = splitOutputPath(outputPath, openApiInfo, index);
+                    messages.add(Message.warn("AsciiDoc output file " + outputPath + " is used by several groups, split document is written to " + splitPath));
+                }
+                var writtenFiles = OpenApiToAdocConverter.convertSplit(openApiInfo.getOpenApi(), props, splitPath, copy);
+                messages.add(Message.info("Changed AsciiDoc OpenAPI files: " + writtenFiles.size()));
+            } else if (first) {
+                if (!writeIfChanged(openApiInfo, props, outputPath, copy)) {
+                    messages.add(Message.info("AsciiDoc OpenAPI file is not changed: " + outputPath));
+                }
             } else {
-                Files.writeString(outputPath, adoc);
+                try (var writer = Files.newBufferedWriter(outputPath, UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    OpenApiToAdocConverter.convert(openApiInfo.getOpenApi(), props, writer, copy);
+                }
             }
-        } catch (Exception e) {
-            warn("Can't convert to ADoc format\n" + Utils.printStackTrace(e), context);
+            first = false;
+            index++;
+        }
+        return messages;
+    }
+
+    /**
+     * @return root file of split document for the group, which shares output file with previous groups
+     */
+    private static Path splitOutputPath(Path outputPath, OpenApiInfo openApiInfo, int index) {
+        var suffix = StringUtils.isNotEmpty(openApiInfo.getGroupName()) ? openApiInfo.getGroupName()
+            : StringUtils.isNotEmpty(openApiInfo.getVersion()) ? openApiInfo.getVersion()
+            : String.valueOf(index);
+        var fileName = outputPath.getFileName().toString();
+        var extIndex = fileName.lastIndexOf('.');
+        var baseName = extIndex > 0 ? fileName.substring(0, extIndex) : fileName;
+        var ext = extIndex > 0 ? fileName.substring(extIndex) : EXT_ADOC;
+        return outputPath.resolveSibling(baseName + '-' + suffix.replaceAll("[^\\w.-]", "_") + ext);
+    }
+
+    /**
+     * @return false, if file content is not changed
+     */
+    private static boolean writeIfChanged(OpenApiInfo openApiInfo, Map<String, String> props, Path outputPath, boolean copy) throws Exception {
+        var tmpPath = outputPath.resolveSibling(outputPath.getFileName() + ".tmp");
+        try {
+            var digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            try (var writer = new BufferedWriter(new OutputStreamWriter(new DigestOutputStream(Files.newOutputStream(tmpPath), digest), UTF_8))) {
+                OpenApiToAdocConverter.convert(openApiInfo.getOpenApi(), props, writer, copy);
+            }
+            if (Files.isRegularFile(outputPath) && Files.size(outputPath) == Files.size(tmpPath)
+                && MessageDigest.isEqual(digest.digest(), fileHash(outputPath))) {
+                return false;
+            }
+            try {
+                Files.move(tmpPath, outputPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpPath, outputPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } finally {
+            Files.deleteIfExists(tmpPath);
+        }
+    }
+
+    private static byte[] fileHash(Path path) throws IOException, NoSuchAlgorithmException {
+        var digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        try (var in = new DigestInputStream(Files.newInputStream(path), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
         }
+        return digest.digest();
     }
 
     private static Path getOutputPath(OpenApiInfo openApiInfo, Map<String, String> props, VisitorContext context) {
@@ -116,4 +297,18 @@ public final class AdocModule {
 
         return outputPath;
     }
+
+    private record Message(
+        boolean warning,
+        String text
+    ) {
+
+        static Message info(String text) {
+            return new Message(false, text);
+        }
+
+        static Message warn(String text) {
+            return new Message(true, text);
+        }
+    }
 }
@@ -25,7 +25,11 @@ import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.beans.BeanMap;
+import io.micronaut.core.reflect.ReflectionUtils;
+import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
@@ -41,10 +45,14 @@ import io.swagger.v3.oas.annotations.extensions.Extension;
 import io.swagger.v3.oas.annotations.security.OAuthScope;
 import io.swagger.v3.oas.annotations.servers.Server;
 import io.swagger.v3.oas.annotations.servers.ServerVariable;
+import io.swagger.v3.oas.models.ExternalDocumentation;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.examples.Example;
 import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.info.Contact;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.Encoding;
 import io.swagger.v3.oas.models.media.MediaType;
@@ -55,6 +63,7 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.tags.Tag;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 import java.io.File;
@@ -78,6 +87,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static io.micronaut.openapi.OpenApiUtils.CONVERT_JSON_MAPPER;
@@ -130,11 +140,25 @@ public final class ConvertUtils {
     public static final TypeReference<Map<CharSequence, Object>> MAP_TYPE = new TypeReference<>() {
     };
 
+    /**
+     * Models, which can be bound from annotation values without JSON tree.
+     */
+    private static final Set<Class<?>> DIRECT_BINDING_TYPES = Set.of(
+        ApiResponse.class,
+        Contact.class,
+        ExternalDocumentation.class,
+        Info.class,
+        License.class,
+        Operation.class,
+        Tag.class
+    );
+
     private ConvertUtils() {
     }
 
     /**
-     * Convert the given Map to a JSON node and then to the specified type.
+     * Convert the given Map to the specified type. Simple models are bound directly,
+     * other models are converted to a JSON node and then to the specified type.
      *
      * @param <T> The output class type
      * @param values The values
@@ -144,7 +168,12 @@ public final class ConvertUtils {
      * @return The converted instance
      */
     public static <T> T toValue(Map<CharSequence, Object> values, VisitorContext context, Class<T> type) {
-        JsonNode node = toJson(values, context);
+        Map<CharSequence, Object> newValues = toValueMap(values, context);
+        T value = bindValue(newValues, type);
+        if (value != null) {
+            return value;
+        }
+        JsonNode node = JSON_MAPPER.valueToTree(newValues);
         try {
             return ConvertUtils.treeToValue(node, type, context);
         } catch (JsonProcessingException e) {
@@ -269,6 +298,97 @@ public final class ConvertUtils {
         return newValues;
     }
 
+    /**
+     * Binds the given value map directly to the model object, without intermediate JSON tree.
+     * Only simple models are supported: all values must have the same type as the model properties
+     * or be simple nested models. In other cases method returns null and the caller must use JSON binding.
+     *
+     * @param valueMap The values, converted by {@code toValueMap()}
+     * @param type The model class
+     * @param <T> The model type
+     *
+     * @return The model object or null, if values can't be bound directly
+     */
+    @Nullable
+    public static <T> T bindValue(Map<CharSequence, Object> valueMap, Class<T> type) {
+        if (!DIRECT_BINDING_TYPES.contains(type)
+            || valueMap.containsKey(PROP_DEFAULT_VALUE)
+            || valueMap.containsKey(PROP_ALLOWABLE_VALUES)) {
+            return null;
+        }
+        BeanIntrospection<T> introspection = BeanIntrospector.SHARED.findIntrospection(type).orElse(null);
+        if (introspection == null) {
+            return null;
+        }
+        T bean = introspection.instantiate();
+        for (var entry : valueMap.entrySet()) {
+            var value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            // unknown properties are ignored, as in CONVERT_JSON_MAPPER
+            var property = introspection.getProperty(entry.getKey().toString()).orElse(null);
+            if (property == null || property.isReadOnly()) {
+                continue;
+            }
+            var propertyValue = toPropertyValue(value, property.asArgument());
+            if (propertyValue == null) {
+                return null;
+            }
+            property.set(bean, propertyValue);
+        }
+        return bean;
+    }
+
+    private static Object toPropertyValue(Object value, Argument<?> argument) {
+        var propertyType = argument.getType();
+        if (value instanceof Map<?, ?> map) {
+            if (isFreeFormMap(argument)) {
+                // extensions and other free-form maps can contain JSON nodes
+                try {
+                    return CONVERT_JSON_MAPPER.convertValue(map, MAP_TYPE_REFERENCE);
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+            // models, like Content or ApiResponses, and maps of models need JSON binding
+            return bindValue((Map<CharSequence, Object>) map, propertyType);
+        }
+        if (List.class.isAssignableFrom(propertyType)) {
+            var itemType = argument.getFirstTypeVariable().map(Argument::getType).orElse(Object.class);
+            if (value instanceof String[] array) {
+                return itemType == String.class ? new ArrayList<>(Arrays.asList(array)) : null;
+            }
+            if (!(value instanceof List<?> list)) {
+                return null;
+            }
+            // lists of nested annotations contain maps, which need JSON binding
+            for (Object item : list) {
+                if (!itemType.isInstance(item)) {
+                    return null;
+                }
+            }
+            return new ArrayList<>(list);
+        }
+        if (propertyType.isPrimitive()) {
+            propertyType = ReflectionUtils.getWrapperType(propertyType);
+        }
+        return propertyType.isInstance(value) ? value : null;
+    }
+
+    private static boolean isFreeFormMap(Argument<?> argument) {
+        var propertyType = argument.getType();
+        if (propertyType == Object.class) {
+            return true;
+        }
+        if (propertyType != Map.class) {
+            return false;
+        }
+        var typeParameters = argument.getTypeParameters();
+        // without generic information value type is unknown, so JSON binding is used
+        return typeParameters.length == 2 && typeParameters[1].getType() == Object.class;
+    }
+
     public static Map<String, Object> parseJsonString(Object object) {
         if (object instanceof String string) {
             try {
@@ -294,32 +414,22 @@ public final class ConvertUtils {
      */
     public static <T> T treeToValue(JsonNode jn, Class<T> clazz, VisitorContext context) throws JsonProcessingException {
 
-        var fixed = false;
         T value;
-        try {
-            value = CONVERT_JSON_MAPPER.treeToValue(jn, clazz);
-        } catch (Exception e) {
-            // maybe exception with groovy
-            if (context.getLanguage() == VisitorContext.Language.GROOVY) {
-                value = fixForGroovy(jn, clazz, null);
-                fixed = true;
-            } else {
-                throw e;
-            }
-        }
-        if (!fixed && context.getLanguage() == VisitorContext.Language.GROOVY) {
+        if (context.getLanguage() == VisitorContext.Language.GROOVY) {
+            // result of the standard binding can be broken with groovy, so use fixed binding at once
             value = fixForGroovy(jn, clazz, null);
+        } else {
+            value = CONVERT_JSON_MAPPER.treeToValue(jn, clazz);
         }
 
         if (value == null) {
             return null;
         }
 
-        var finalValue = value;
-
+        BeanMap<T> beanMap = BeanMap.of(value);
         var exts = resolveExtensions(jn);
         if (exts != null) {
-            BeanMap.of(finalValue).put(PROP_EXTENSIONS, exts);
+            beanMap.put(PROP_EXTENSIONS, exts);
         }
         String elType = jn.has(PROP_TYPE) ? jn.get(PROP_TYPE).textValue() : null;
         String elFormat = jn.has(PROP_ONE_FORMAT) ? jn.get(PROP_ONE_FORMAT).textValue() : null;
@@ -332,7 +442,6 @@ public final class ConvertUtils {
             defaultValue = defaultValueNode != null ? defaultValueNode.textValue() : null;
         }
 
-        BeanMap<T> beanMap = BeanMap.of(value);
         if (defaultValue != null) {
             beanMap.put(PROP_DEFAULT, defaultValue);
         }
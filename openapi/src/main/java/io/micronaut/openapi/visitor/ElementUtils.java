@@ -23,6 +23,7 @@ import com.fasterxml.jackson.annotation.JsonView;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
@@ -34,6 +35,7 @@ import io.micronaut.inject.ast.ClassElement;
 import io.micronaut.inject.ast.Element;
 import io.micronaut.inject.ast.MemberElement;
 import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
 import io.micronaut.inject.ast.TypedElement;
 import io.micronaut.inject.visitor.VisitorContext;
 import io.swagger.v3.oas.annotations.Hidden;
@@ -55,6 +57,8 @@ import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -80,6 +84,12 @@ public final class ElementUtils {
 
     public static final AnnotationValue<?>[] EMPTY_ANNOTATION_VALUES_ARRAY = new AnnotationValue[0];
 
+    /**
+     * Resolved annotations of member elements. Annotations of properties and fields are merged with annotations
+     * of the creator constructor parameter with the same name, so they are resolved once per element.
+     */
+    private static final Map<Element, ResolvedAnnotations> RESOLVED_ANNOTATIONS = new IdentityHashMap<>();
+
     public static final List<String> CONTAINER_TYPES = List.of(
         AtomicReference.class.getName(),
         "com.google.common.base.Optional",
@@ -321,21 +331,7 @@ public final class ElementUtils {
             return AnnotationMetadata.EMPTY_METADATA;
         }
         if (el instanceof MemberElement memberEl) {
-            var propMetadata = memberEl.getAnnotationMetadata();
-            AnnotationMetadata constructorMetadata = null;
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
-            if (constructor != null) {
-                for (var constructorParam : constructor.getParameters()) {
-                    if (constructorParam.getName().equals(memberEl.getName())) {
-                        constructorMetadata = constructorParam.getAnnotationMetadata();
-                        break;
-                    }
-                }
-            }
-            if (constructorMetadata == null || constructorMetadata.isEmpty()) {
-                return propMetadata;
-            }
-            return new AnnotationMetadataHierarchy(true, propMetadata, constructorMetadata);
+            return resolvedAnnotations(memberEl).getMetadata();
         }
         return el.getAnnotationMetadata();
     }
@@ -345,19 +341,7 @@ public final class ElementUtils {
             return Optional.empty();
         }
         if (el instanceof MemberElement memberEl) {
-            var result = memberEl.findAnnotation(annName);
-            if (result.isPresent()) {
-                return result;
-            }
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
-            if (constructor != null) {
-                for (var constructorParam : constructor.getParameters()) {
-                    if (constructorParam.getName().equals(memberEl.getName())) {
-                        return constructorParam.findAnnotation(annName);
-                    }
-                }
-            }
-            return Optional.empty();
+            return resolvedAnnotations(memberEl).findAnnotation(annName);
         }
         return el.findAnnotation(annName);
     }
@@ -371,19 +355,7 @@ public final class ElementUtils {
             return false;
         }
         if (el instanceof MemberElement memberEl) {
-            var result = memberEl.isAnnotationPresent(annName);
-            if (result) {
-                return true;
-            }
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
-            if (constructor != null) {
-                for (var constructorParam : constructor.getParameters()) {
-                    if (constructorParam.getName().equals(memberEl.getName())) {
-                        return constructorParam.isAnnotationPresent(annName);
-                    }
-                }
-            }
-            return false;
+            return resolvedAnnotations(memberEl).isAnnotationPresent(annName);
         }
         return el.isAnnotationPresent(annName);
     }
@@ -393,19 +365,12 @@ public final class ElementUtils {
             return Optional.empty();
         }
         if (el instanceof MemberElement memberEl) {
+            var resolved = resolvedAnnotations(memberEl);
             var result = memberEl.stringValue(annClass, member);
-            if (result.isPresent()) {
+            if (result.isPresent() || resolved.constructorParam == null) {
                 return result;
             }
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
-            if (constructor != null) {
-                for (var constructorParam : constructor.getParameters()) {
-                    if (constructorParam.getName().equals(memberEl.getName())) {
-                        return constructorParam.stringValue(annClass, member);
-                    }
-                }
-            }
-            return result;
+            return resolved.constructorParam.stringValue(annClass, member);
         }
         return el.stringValue(annClass, member);
     }
@@ -419,21 +384,39 @@ public final class ElementUtils {
             return null;
         }
         if (el instanceof MemberElement memberEl) {
-            var result = memberEl.getAnnotation(annName);
-            if (result != null) {
-                return result;
-            }
+            return resolvedAnnotations(memberEl).findAnnotation(annName).orElse(null);
+        }
+        return el.getAnnotation(annName);
+    }
+
+    /**
+     * Clear resolved annotations cache.
+     */
+    public static void clean() {
+        RESOLVED_ANNOTATIONS.clear();
+    }
+
+    static boolean hasResolvedAnnotations(Element el) {
+        return RESOLVED_ANNOTATIONS.containsKey(el);
+    }
+
+    private static ResolvedAnnotations resolvedAnnotations(MemberElement memberEl) {
+        var resolved = RESOLVED_ANNOTATIONS.get(memberEl);
+        if (resolved == null) {
+            ParameterElement constructorParam = null;
             var constructor = getCreatorConstructor(memberEl.getOwningType());
             if (constructor != null) {
-                for (var constructorParam : constructor.getParameters()) {
-                    if (constructorParam.getName().equals(memberEl.getName())) {
-                        return constructorParam.getAnnotation(annName);
+                for (var param : constructor.getParameters()) {
+                    if (param.getName().equals(memberEl.getName())) {
+                        constructorParam = param;
+                        break;
                     }
                 }
             }
-            return result;
+            resolved = new ResolvedAnnotations(memberEl, constructorParam);
+            RESOLVED_ANNOTATIONS.put(memberEl, resolved);
         }
-        return el.getAnnotation(annName);
+        return resolved;
     }
 
     private static MethodElement getCreatorConstructor(ClassElement classEl) {
@@ -517,4 +500,58 @@ public final class ElementUtils {
         var jsonShape = jsonFormatAnn.get("shape", JsonFormat.Shape.class).orElse(JsonFormat.Shape.ANY);
         return jsonShape != JsonFormat.Shape.OBJECT && isEnum;
     }
+
+    /**
+     * Annotations of the member element and creator constructor parameter.
+     * Lookup results are memoized by annotation name.
+     */
+    private static final class ResolvedAnnotations {
+
+        private final MemberElement memberEl;
+        @Nullable
+        private final ParameterElement constructorParam;
+        private final Map<String, Optional<AnnotationValue<Annotation>>> annotations = new HashMap<>();
+        private final Map<String, Boolean> presentAnnotations = new HashMap<>();
+        private AnnotationMetadata metadata;
+
+        private ResolvedAnnotations(MemberElement memberEl, @Nullable ParameterElement constructorParam) {
+            this.memberEl = memberEl;
+            this.constructorParam = constructorParam;
+        }
+
+        private AnnotationMetadata getMetadata() {
+            if (metadata == null) {
+                var propMetadata = memberEl.getAnnotationMetadata();
+                var constructorMetadata = constructorParam != null ? constructorParam.getAnnotationMetadata() : null;
+                if (constructorMetadata == null || constructorMetadata.isEmpty()) {
+                    metadata = propMetadata;
+                } else {
+                    metadata = new AnnotationMetadataHierarchy(true, propMetadata, constructorMetadata);
+                }
+            }
+            return metadata;
+        }
+
+        private Optional<AnnotationValue<Annotation>> findAnnotation(String annName) {
+            var result = annotations.get(annName);
+            if (result == null) {
+                result = memberEl.findAnnotation(annName);
+                if (result.isEmpty() && constructorParam != null) {
+                    result = constructorParam.findAnnotation(annName);
+                }
+                annotations.put(annName, result);
+            }
+            return result;
+        }
+
+        private boolean isAnnotationPresent(String annName) {
+            var result = presentAnnotations.get(annName);
+            if (result == null) {
+                result = memberEl.isAnnotationPresent(annName)
+                    || (constructorParam != null && constructorParam.isAnnotationPresent(annName));
+                presentAnnotations.put(annName, result);
+            }
+            return result;
+        }
+    }
 }
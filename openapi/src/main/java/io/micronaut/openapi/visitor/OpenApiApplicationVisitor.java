@@ -56,7 +56,6 @@ import io.swagger.v3.oas.models.tags.Tag;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
-import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -78,6 +77,7 @@ import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
 import static io.micronaut.openapi.visitor.ConfigUtils.getEnv;
 import static io.micronaut.openapi.visitor.ConfigUtils.getExpandableProperties;
 import static io.micronaut.openapi.visitor.ConfigUtils.getGroupProperties;
+import static io.micronaut.openapi.visitor.ConfigUtils.isJsonViewMergeIdentical;
 import static io.micronaut.openapi.visitor.ConfigUtils.isOpenApiEnabled;
 import static io.micronaut.openapi.visitor.ConfigUtils.isSpecGenerationEnabled;
 import static io.micronaut.openapi.visitor.ConfigUtils.readOpenApiConfigFile;
@@ -97,6 +97,7 @@ import static io.micronaut.openapi.visitor.FileUtils.resolve;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.ALL;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_APPLICATION_NAME;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES_CACHE;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_CONTEXT_SERVER_PATH;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_FORMAT;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PROPERTY_NAMING_STRATEGY;
@@ -104,6 +105,7 @@ import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENA
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.SPRING_APPLICATION_NAME;
 import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_SECURITY;
 import static io.micronaut.openapi.visitor.OpenApiNormalizeUtils.findAndRemoveDuplicates;
+import static io.micronaut.openapi.visitor.OpenApiNormalizeUtils.mergeIdenticalJsonViewSchemas;
 import static io.micronaut.openapi.visitor.OpenApiNormalizeUtils.normalizeOpenApi;
 import static io.micronaut.openapi.visitor.OpenApiNormalizeUtils.removeEmptyComponents;
 import static io.micronaut.openapi.visitor.SchemaDefinitionUtils.toValue;
@@ -227,25 +229,16 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         if (StringUtils.isEmpty(additionalSwaggerFiles)) {
             return;
         }
-        Path directory = resolve(context, java.nio.file.Paths.get(additionalSwaggerFiles));
+        Path directory = resolve(context, Path.of(additionalSwaggerFiles));
         if (!Files.isDirectory(directory)) {
             warn(directory + " does not exist or is not a directory", context, element);
             return;
         }
         info("Merging Swagger OpenAPI YAML and JSON files from location: " + directory, context);
-        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, path -> {
-            var pathStr = path.toString().toLowerCase();
-            return FileUtils.isYaml(pathStr) || FileUtils.isJson(pathStr);
-        })) {
-            for (var path : paths) {
-                boolean isYaml = FileUtils.isYaml(path.toString().toLowerCase());
-                info("Reading Swagger OpenAPI " + (isYaml ? "YAML" : "JSON") + " file " + path.getFileName(), context);
-                OpenAPI parsedOpenApi = null;
-                try {
-                    parsedOpenApi = (isYaml ? Utils.getYamlMapper() : Utils.getJsonMapper()).readValue(path.toFile(), OpenAPI.class);
-                } catch (IOException e) {
-                    warn("Unable to read file " + path.getFileName() + ": " + e.getMessage(), context, element);
-                }
+        String cacheFile = getConfigProperty(MICRONAUT_OPENAPI_ADDITIONAL_FILES_CACHE, context);
+        Path cacheFilePath = StringUtils.isNotEmpty(cacheFile) ? resolve(context, Path.of(cacheFile)) : null;
+        try {
+            for (var parsedOpenApi : AdditionalFilesUtils.readAdditionalFiles(directory, cacheFilePath, element, context)) {
                 copyOpenApi(openApi, parsedOpenApi);
             }
         } catch (IOException e) {
@@ -510,6 +503,10 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         } catch (Exception e) {
             warn("Error:\n" + Utils.printStackTrace(e), context);
             throw e;
+        } finally {
+            // elements can't be reused after compilation
+            ElementUtils.clean();
+            SchemaDefinitionUtils.cleanNameCache();
         }
     }
 
@@ -716,6 +713,10 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         applyPropertyNamingStrategy(openApi, context);
         applyPropertyServerContextPath(openApi, context);
 
+        if (isJsonViewMergeIdentical(context)) {
+            openApi = mergeIdenticalJsonViewSchemas(openApi, SchemaDefinitionUtils.getJsonViewSchemaNameToClassNameMap());
+        }
+
         normalizeOpenApi(openApi, context);
         normalizeOpenApi(openApi, context);
         // Process after sorting so order is stable
@@ -854,6 +855,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         }
 
         var objectMapper = isYaml ? Utils.getYamlMapper() : Utils.getJsonMapper();
+        var adocGroups = new ArrayList<Pair<OpenApiInfo, Map<String, String>>>();
 
         for (OpenApiInfo openApiInfo : openApiInfos.values()) {
             Path specFile = openApiSpecFile(openApiInfo.getFilename(), context);
@@ -879,12 +881,15 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
                 }
                 if (isAdocModuleInClassPath && isGlobalAdocEnabled && openApiInfo.isAdocEnabled()) {
                     var adocProperties = getAdocProperties(openApiInfo, openApiInfos.size() == 1, context);
-                    AdocModule.convert(openApiInfo, adocProperties, context);
+                    adocGroups.add(Pair.of(openApiInfo, adocProperties));
                 }
             } catch (Exception e) {
                 warn("Unable to generate swagger" + (isYaml ? EXT_YML : EXT_JSON) + ": " + specFile + " - " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context, classElement);
             }
         }
+        if (!adocGroups.isEmpty()) {
+            AdocModule.convert(adocGroups, ConfigUtils.isAdocParallel(context), context);
+        }
     }
 
     private Writer getFileWriter(Path specFile) throws IOException {
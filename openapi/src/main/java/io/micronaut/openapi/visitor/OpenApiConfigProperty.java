@@ -129,6 +129,11 @@ public interface OpenApiConfigProperty {
      * System property that specifies the location of additional swagger YAML and JSON files to read from.
      */
     String MICRONAUT_OPENAPI_ADDITIONAL_FILES = "micronaut.openapi.additional.files";
+    /**
+     * System property that specifies the file to persist parsed additional swagger files between builds.
+     * Unchanged files (same path, size and last modified time) will not be parsed again.
+     */
+    String MICRONAUT_OPENAPI_ADDITIONAL_FILES_CACHE = "micronaut.openapi.additional.files.cache";
     /**
      * System property that specifies the location of current project.
      */
@@ -200,6 +205,13 @@ public interface OpenApiConfigProperty {
      * Default value is "true".
      */
     String MICRONAUT_OPENAPI_JSON_VIEW_DEFAULT_INCLUSION = "micronaut.openapi.json.view.default.inclusion";
+    /**
+     * Property that determines whether structurally identical schemas, generated for the same class with different JSON views,
+     * are merged into one schema. If enabled, the schema of the first view that uses it is kept and all references are replaced.
+     * <br>
+     * Default value is "false".
+     */
+    String MICRONAUT_OPENAPI_JSON_VIEW_MERGE_IDENTICAL = "micronaut.openapi.json.view.merge.identical";
     /**
      * micronaut-context application name property.
      */
@@ -349,6 +361,20 @@ public interface OpenApiConfigProperty {
      * OpenAPI file path.
      */
     String MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH = "micronaut.openapi.adoc.openapi.path";
+    /**
+     * Write separate adoc files for every tag and schema group, which are included in the root document.
+     */
+    String MICRONAUT_OPENAPI_ADOC_SPLIT = "micronaut.openapi.adoc.split";
+    /**
+     * Custom root template filename for split adoc output.
+     */
+    String MICRONAUT_OPENAPI_ADOC_SPLIT_TEMPLATE_FILENAME = "micronaut.openapi.adoc.split.template.filename";
+    /**
+     * Render adoc files of different groups in parallel.
+     * <br>
+     * Default value is "false".
+     */
+    String MICRONAUT_OPENAPI_ADOC_PARALLEL = "micronaut.openapi.adoc.parallel";
     /**
      * Default openapi config file.
      */
@@ -371,10 +397,12 @@ public interface OpenApiConfigProperty {
         MICRONAUT_OPENAPI_TARGET_FILE,
         MICRONAUT_OPENAPI_VIEWS_DEST_DIR,
         MICRONAUT_OPENAPI_ADDITIONAL_FILES,
+        MICRONAUT_OPENAPI_ADDITIONAL_FILES_CACHE,
         MICRONAUT_OPENAPI_CONFIG_FILE,
         MICRONAUT_OPENAPI_SECURITY_ENABLED,
         MICRONAUT_OPENAPI_VERSIONING_ENABLED,
         MICRONAUT_OPENAPI_JSON_VIEW_DEFAULT_INCLUSION,
+        MICRONAUT_OPENAPI_JSON_VIEW_MERGE_IDENTICAL,
         MICRONAUT_OPENAPI_PROJECT_DIR,
         MICRONAUT_OPENAPI_ADOC_ENABLED,
         MICRONAUT_OPENAPI_ADOC_TEMPLATES_DIR_PATH,
@@ -382,6 +410,9 @@ public interface OpenApiConfigProperty {
         MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH,
         MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME,
         MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH,
+        MICRONAUT_OPENAPI_ADOC_SPLIT,
+        MICRONAUT_OPENAPI_ADOC_SPLIT_TEMPLATE_FILENAME,
+        MICRONAUT_OPENAPI_ADOC_PARALLEL,
         MICRONAUT_OPENAPI_SWAGGER_FILE_GENERATION_ENABLED,
         MICRONAUT_OPENAPI_SCHEMA_EXTRA_ENABLED,
         MICRONAUT_OPENAPI_SCHEMA_NAME_SEPARATOR_EMPTY,
@@ -16,6 +16,10 @@
 package io.micronaut.openapi.visitor;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
@@ -35,18 +39,23 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
+import static io.micronaut.openapi.visitor.OpenApiModelProp.DISCRIMINATOR;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_MAPPING;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_REF_DOLLAR;
 import static io.micronaut.openapi.visitor.SchemaUtils.EMPTY_SIMPLE_SCHEMA;
 import static io.micronaut.openapi.visitor.SchemaUtils.TYPE_OBJECT;
 import static io.micronaut.openapi.visitor.SchemaUtils.TYPE_STRING;
 import static io.micronaut.openapi.visitor.SchemaUtils.appendSchema;
 import static io.micronaut.openapi.visitor.SchemaUtils.isEmptySchema;
 import static io.micronaut.openapi.visitor.SchemaUtils.setSpecVersion;
+import static io.swagger.v3.oas.models.Components.COMPONENTS_SCHEMAS_REF;
 
 /**
  * Normalization methods for openAPI objects.
@@ -56,6 +65,10 @@ import static io.micronaut.openapi.visitor.SchemaUtils.setSpecVersion;
 @Internal
 public final class OpenApiNormalizeUtils {
 
+    private static final String PROP_COMPONENTS = "components";
+    private static final String PROP_SCHEMAS = "schemas";
+    private static final int MAX_MERGE_ITERATIONS = 100;
+
     private OpenApiNormalizeUtils() {
     }
 
@@ -487,6 +500,118 @@ public final class OpenApiNormalizeUtils {
         }
     }
 
+    /**
+     * Merge structurally identical schemas, generated for the same class with different JSON views.
+     * From every group of identical schemas only the first schema in components order is kept, that is the schema
+     * of the first view that uses it, and all references to removed schemas are replaced.
+     *
+     * @param openApi openAPI object
+     * @param schemaNameToClassName schema names to class names without JSON view postfix
+     *
+     * @return openAPI object with merged schemas
+     */
+    public static OpenAPI mergeIdenticalJsonViewSchemas(OpenAPI openApi, Map<String, String> schemaNameToClassName) {
+        if (openApi.getComponents() == null || CollectionUtils.isEmpty(openApi.getComponents().getSchemas())
+            || CollectionUtils.isEmpty(schemaNameToClassName)) {
+            return openApi;
+        }
+        // cheap check to avoid converting openAPI object to JSON tree, when there are no JSON view variants
+        var classNames = new HashSet<String>();
+        var hasVariants = false;
+        for (var schemaName : openApi.getComponents().getSchemas().keySet()) {
+            var className = schemaNameToClassName.get(schemaName);
+            if (className != null && !classNames.add(className)) {
+                hasVariants = true;
+                break;
+            }
+        }
+        if (!hasVariants) {
+            return openApi;
+        }
+
+        var mapper = Utils.getJsonMapper();
+        ObjectNode root = mapper.valueToTree(openApi);
+        if (!(root.path(PROP_COMPONENTS).path(PROP_SCHEMAS) instanceof ObjectNode schemasNode)) {
+            return openApi;
+        }
+        var merged = false;
+        // merged nested schemas can make parent schemas identical, so repeat until nothing changes
+        for (int i = 0; i < MAX_MERGE_ITERATIONS; i++) {
+            var replacements = findIdenticalSchemas(schemasNode, schemaNameToClassName);
+            if (replacements.isEmpty()) {
+                break;
+            }
+            schemasNode.remove(replacements.keySet());
+            replaceSchemaRefs(root, replacements);
+            merged = true;
+        }
+        return merged ? mapper.convertValue(root, OpenAPI.class) : openApi;
+    }
+
+    private static Map<String, String> findIdenticalSchemas(ObjectNode schemasNode, Map<String, String> schemaNameToClassName) {
+        // schemas are not sorted yet, so the order is the order of generation and doesn't depend on names
+        var schemaNames = new ArrayList<String>();
+        schemasNode.fieldNames().forEachRemaining(schemaName -> {
+            if (schemaNameToClassName.containsKey(schemaName)) {
+                schemaNames.add(schemaName);
+            }
+        });
+
+        // JSON tree equals and hashCode are structural, so schema node itself is used as fingerprint
+        var schemasByClassName = new HashMap<String, Map<JsonNode, String>>();
+        var replacements = new HashMap<String, String>();
+        for (var schemaName : schemaNames) {
+            var existedSchemaName = schemasByClassName.computeIfAbsent(schemaNameToClassName.get(schemaName), k -> new HashMap<>())
+                .putIfAbsent(schemasNode.get(schemaName), schemaName);
+            if (existedSchemaName != null) {
+                replacements.put(schemaName, existedSchemaName);
+            }
+        }
+        return replacements;
+    }
+
+    /**
+     * Replace only $ref values and discriminator mappings, other texts (descriptions, examples) are not changed.
+     */
+    private static void replaceSchemaRefs(JsonNode node, Map<String, String> replacements) {
+        if (node instanceof ObjectNode objectNode) {
+            var fields = objectNode.fields();
+            while (fields.hasNext()) {
+                var field = fields.next();
+                if (PROP_REF_DOLLAR.equals(field.getKey())) {
+                    var newRef = replacedSchemaRef(field.getValue(), replacements);
+                    if (newRef != null) {
+                        field.setValue(TextNode.valueOf(newRef));
+                    }
+                    continue;
+                }
+                if (DISCRIMINATOR.equals(field.getKey()) && field.getValue().get(PROP_MAPPING) instanceof ObjectNode mappingNode) {
+                    var mappings = mappingNode.fields();
+                    while (mappings.hasNext()) {
+                        var mapping = mappings.next();
+                        var newRef = replacedSchemaRef(mapping.getValue(), replacements);
+                        if (newRef != null) {
+                            mapping.setValue(TextNode.valueOf(newRef));
+                        }
+                    }
+                }
+                replaceSchemaRefs(field.getValue(), replacements);
+            }
+        } else if (node instanceof ArrayNode arrayNode) {
+            for (var element : arrayNode) {
+                replaceSchemaRefs(element, replacements);
+            }
+        }
+    }
+
+    private static String replacedSchemaRef(JsonNode node, Map<String, String> replacements) {
+        if (!node.isTextual() || !node.textValue().startsWith(COMPONENTS_SCHEMAS_REF)) {
+            return null;
+        }
+        var newSchemaName = replacements.get(node.textValue().substring(COMPONENTS_SCHEMAS_REF.length()));
+        return newSchemaName != null ? COMPONENTS_SCHEMAS_REF + newSchemaName : null;
+    }
+
     /**
      * Find and remove duplicates in openApi object.
      *
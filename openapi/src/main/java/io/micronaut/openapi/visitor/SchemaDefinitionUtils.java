@@ -52,6 +52,7 @@ import io.micronaut.inject.ast.FieldElement;
 import io.micronaut.inject.ast.GenericElement;
 import io.micronaut.inject.ast.GenericPlaceholderElement;
 import io.micronaut.inject.ast.MemberElement;
+import io.micronaut.inject.ast.MethodElement;
 import io.micronaut.inject.ast.PropertyElement;
 import io.micronaut.inject.ast.PropertyElementQuery;
 import io.micronaut.inject.ast.TypedElement;
@@ -129,6 +130,7 @@ import static io.micronaut.openapi.visitor.ConfigUtils.getInnerClassSeparator;
 import static io.micronaut.openapi.visitor.ConfigUtils.getSchemaDecoration;
 import static io.micronaut.openapi.visitor.ConfigUtils.getSchemaDuplicateResolution;
 import static io.micronaut.openapi.visitor.ConfigUtils.isJsonViewDefaultInclusion;
+import static io.micronaut.openapi.visitor.ConfigUtils.isJsonViewEnabled;
 import static io.micronaut.openapi.visitor.ContextUtils.warn;
 import static io.micronaut.openapi.visitor.ConvertUtils.parseJsonString;
 import static io.micronaut.openapi.visitor.ConvertUtils.setDefaultValueObject;
@@ -229,6 +231,8 @@ import static io.micronaut.openapi.visitor.Utils.resolveOpenApi;
 @Internal
 public final class SchemaDefinitionUtils {
 
+    private static final int MAX_GENERIC_SIGNATURE_DEPTH = 16;
+
     /**
      * Stores the current in progress type.
      */
@@ -237,6 +241,11 @@ public final class SchemaDefinitionUtils {
      * Stores relations between schema names and class names.
      */
     private static Map<String, String> schemaNameToClassNameMap = new HashMap<>();
+    /**
+     * Stores relations between schema names and class names without JSON view postfix.
+     * Used to find identical schemas, generated for different JSON views.
+     */
+    private static Map<String, String> jsonViewSchemaNameToClassNameMap = new HashMap<>();
     /**
      * Stores class name counters for schema suffix, when found classes with same name in different packages.
      */
@@ -245,6 +254,12 @@ public final class SchemaDefinitionUtils {
      * {@link PropertyNamingStrategy} instances cache.
      */
     private static Map<String, PropertyNamingStrategy> propertyNamingStrategyInstances = new HashMap<>();
+    /**
+     * Computed pairs of schema name and full class name with generics by canonical generic signature,
+     * JSON view postfix and name separators. Only strings are stored, so elements are not retained.
+     */
+    private static Map<String, Pair<String, String>> fullClassNameWithGenericsCache = new HashMap<>();
+    private static long fullClassNameWithGenericsCacheHits;
 
     private SchemaDefinitionUtils() {
     }
@@ -255,8 +270,25 @@ public final class SchemaDefinitionUtils {
     public static void clean() {
         inProgressSchemas = new ArrayList<>(10);
         schemaNameToClassNameMap = new HashMap<>();
+        jsonViewSchemaNameToClassNameMap = new HashMap<>();
         shemaNameSuffixCounterMap = new HashMap<>();
         propertyNamingStrategyInstances = new HashMap<>();
+        cleanNameCache();
+        fullClassNameWithGenericsCacheHits = 0;
+    }
+
+    /**
+     * Cleanup cache of computed schema names. Called at the end of every compilation.
+     */
+    public static void cleanNameCache() {
+        fullClassNameWithGenericsCache = new HashMap<>();
+    }
+
+    /**
+     * @return number of schema names, resolved from cache since last {@link #clean()}
+     */
+    static long getFullClassNameWithGenericsCacheHits() {
+        return fullClassNameWithGenericsCacheHits;
     }
 
     /**
@@ -510,6 +542,11 @@ public final class SchemaDefinitionUtils {
             resultSchemaName += genericSeparator + index;
         }
         schemaNameToClassNameMap.put(resultSchemaName, fullClassNameWithGenerics);
+        if (defaultSchemaName == null && isJsonViewEnabled(context)) {
+            jsonViewSchemaNameToClassNameMap.put(resultSchemaName, jsonViewClass != null
+                ? computeFullClassNameWithGenerics(type, typeArgs, EMPTY_STRING, context).getSecond()
+                : fullClassNameWithGenerics);
+        }
 
         return resultSchemaName;
     }
@@ -521,17 +558,37 @@ public final class SchemaDefinitionUtils {
 
         var innerClassSeparator = getInnerClassSeparator(context);
 
+        ClassElement typeType = null;
+        var keyBuilder = new StringBuilder();
+        boolean cacheable = true;
+        if (type instanceof TypedElement typedEl && !(type instanceof EnumElement)) {
+            typeType = typedEl.getType();
+            if (CollectionUtils.isEmpty(typeType.getTypeArguments())) {
+                typeArgs = Collections.emptyMap();
+            }
+            appendSignatureTypeName(typeType, keyBuilder);
+            cacheable = appendGenericSignature(typeArgs, keyBuilder, 0);
+        } else {
+            keyBuilder.append(type.getName()).append(':').append(type.getSimpleName());
+        }
+        String cacheKey = null;
+        if (cacheable) {
+            cacheKey = keyBuilder.append(' ').append(jsonViewPostfix)
+                .append(' ').append(getGenericSeparator(context))
+                .append(' ').append(innerClassSeparator)
+                .toString();
+            var cached = fullClassNameWithGenericsCache.get(cacheKey);
+            if (cached != null) {
+                fullClassNameWithGenericsCacheHits++;
+                return cached;
+            }
+        }
+
         String resultSchemaName;
         String packageName;
-        if (type instanceof TypedElement typedEl && !(type instanceof EnumElement)) {
-            ClassElement typeType = typedEl.getType();
-            var isProtobufGenerated = isProtobufGenerated(typeType);
+        if (typeType != null) {
             packageName = typeType.getPackageName();
-            if (CollectionUtils.isNotEmpty(typeType.getTypeArguments())) {
-                resultSchemaName = computeNameWithGenerics(typeType, typeArgs, context, isProtobufGenerated);
-            } else {
-                resultSchemaName = computeNameWithGenerics(typeType, Collections.emptyMap(), context, isProtobufGenerated);
-            }
+            resultSchemaName = computeNameWithGenerics(typeType, typeArgs, context, isProtobufGenerated(typeType));
         } else {
             resultSchemaName = type.getSimpleName();
             packageName = NameUtils.getPackageName(type.getName());
@@ -545,7 +602,54 @@ public final class SchemaDefinitionUtils {
                 + (StringUtils.hasText(schemaDecorator.getPostfix()) ? schemaDecorator.getPostfix() : EMPTY_STRING);
         }
 
-        return Pair.of(resultSchemaName, packageName + DOT + resultSchemaName);
+        var result = Pair.of(resultSchemaName.intern(), (packageName + DOT + resultSchemaName).intern());
+        if (cacheKey != null) {
+            fullClassNameWithGenericsCache.put(cacheKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * Appends canonical names of type arguments. Custom schemas and protobuf names depend only on class names,
+     * so they are not a part of signature.
+     *
+     * @return false, if schema name depends on type argument annotations or type arguments are too deep to cache
+     */
+    private static boolean appendGenericSignature(Map<String, ClassElement> typeArgs, StringBuilder builder, int depth) {
+        if (CollectionUtils.isEmpty(typeArgs)) {
+            return true;
+        }
+        if (depth > MAX_GENERIC_SIGNATURE_DEPTH) {
+            return false;
+        }
+        builder.append('<');
+        for (var ce : typeArgs.values()) {
+            if (ClassUtils.isJavaLangType(ce.getName()) && CollectionUtils.isNotEmpty(ce.getAnnotationNames())) {
+                return false;
+            }
+            appendSignatureTypeName(ce, builder);
+            if (!appendGenericSignature(ce.getTypeArguments(), builder, depth + 1)) {
+                return false;
+            }
+            builder.append(',');
+        }
+        builder.append('>');
+        return true;
+    }
+
+    /**
+     * Schema name uses simple names, which differ from class names for generic placeholders.
+     */
+    private static void appendSignatureTypeName(ClassElement classElement, StringBuilder builder) {
+        var name = classElement.getName();
+        var simpleName = classElement.getSimpleName();
+        builder.append(name);
+        if (!name.endsWith(simpleName)) {
+            builder.append(':').append(simpleName);
+        }
+        for (int i = 0; i < classElement.getArrayDimensions(); i++) {
+            builder.append("[]");
+        }
     }
 
     public static List<Object> getEnumValues(EnumElement type, String schemaType, String schemaFormat, VisitorContext context) {
@@ -1445,7 +1549,8 @@ public final class SchemaDefinitionUtils {
     }
 
     /**
-     * Convert the given Map to a JSON node and then to the specified type.
+     * Convert the given Map to the specified type. Simple models are bound directly,
+     * other models are converted to a JSON node and then to the specified type.
      *
      * @param <T> The output class type
      * @param values The values
@@ -1455,7 +1560,12 @@ public final class SchemaDefinitionUtils {
      * @return The converted instance
      */
     public static <T> T toValue(Map<CharSequence, Object> values, VisitorContext context, Class<T> type, @Nullable ClassElement jsonViewClass) {
-        JsonNode node = toJson(values, context, jsonViewClass);
+        Map<CharSequence, Object> newValues = toValueMap(values, context, jsonViewClass);
+        T value = ConvertUtils.bindValue(newValues, type);
+        if (value != null) {
+            return value;
+        }
+        JsonNode node = Utils.getJsonMapper().valueToTree(newValues);
         try {
             return ConvertUtils.treeToValue(node, type, context);
         } catch (JsonProcessingException e) {
@@ -2517,6 +2627,10 @@ public final class SchemaDefinitionUtils {
             classLvlJsonViewClasses = classElement.getAnnotationMetadata().stringValues(JsonView.class);
         }
 
+        // fields and methods are resolved once per class, not per property
+        Map<String, FieldElement> fieldsByName = null;
+        List<MethodElement> methods = null;
+
         for (TypedElement publicField : publicFields) {
             if (isHiddenElement(publicField)) {
                 continue;
@@ -2525,18 +2639,24 @@ public final class SchemaDefinitionUtils {
             var isGetterOverridden = false;
             JavadocDescription fieldJavadoc = null;
             if (classElement != null) {
-                for (FieldElement field : classElement.getFields()) {
-                    if (field.getName().equals(publicField.getName())) {
-                        fieldJavadoc = Utils.getJavadocParser().parse(publicField.getDocumentation().orElse(field.getDocumentation().orElse(null)));
-                        break;
+                if (fieldsByName == null) {
+                    fieldsByName = new HashMap<>();
+                    for (FieldElement field : classElement.getFields()) {
+                        fieldsByName.putIfAbsent(field.getName(), field);
                     }
                 }
+                var field = fieldsByName.get(publicField.getName());
+                if (field != null) {
+                    fieldJavadoc = Utils.getJavadocParser().parse(publicField.getDocumentation().orElse(field.getDocumentation().orElse(null)));
+                }
 
                 // checking if the getter is overridden and has javadoc and other annotations
                 if (publicField instanceof PropertyElement propertyEl) {
                     var readerMethod = propertyEl.getReadMethod().orElse(null);
                     if (readerMethod != null) {
-                        var methods = classElement.getEnclosedElements(ElementQuery.ALL_METHODS.includeOverriddenMethods());
+                        if (methods == null) {
+                            methods = classElement.getEnclosedElements(ElementQuery.ALL_METHODS.includeOverriddenMethods());
+                        }
                         for (var method : methods) {
                             if (readerMethod.overrides(method)) {
                                 isGetterOverridden = CollectionUtils.isNotEmpty(readerMethod.getAnnotationNames()) || fieldJavadoc != null;
@@ -2757,19 +2877,21 @@ public final class SchemaDefinitionUtils {
     }
 
     private static String computeNameWithGenerics(ClassElement classElement, Map<String, ClassElement> typeArgs, VisitorContext context, boolean isProtobufGenerated) {
+
+        var genericSeparator = getGenericSeparator(context);
+        var innerClassSeparator = getInnerClassSeparator(context);
+
         var className = classElement.getSimpleName();
         if (isProtobufGenerated) {
             className = normalizeProtobufClassName(className);
         }
         var builder = new StringBuilder(className);
-        computeNameWithGenerics(classElement, builder, new HashSet<>(), typeArgs, context, isProtobufGenerated);
+        computeNameWithGenerics(classElement, builder, new HashSet<>(), typeArgs, context, isProtobufGenerated, genericSeparator, innerClassSeparator);
         return builder.toString();
     }
 
-    private static void computeNameWithGenerics(ClassElement classElement, StringBuilder builder, Set<String> computed, Map<String, ClassElement> typeArgs, VisitorContext context, boolean isProtobufGenerated) {
-
-        var genericSeparator = getGenericSeparator(context);
-        var innerClassSeparator = getInnerClassSeparator(context);
+    private static void computeNameWithGenerics(ClassElement classElement, StringBuilder builder, Set<String> computed, Map<String, ClassElement> typeArgs, VisitorContext context, boolean isProtobufGenerated,
+                                                String genericSeparator, String innerClassSeparator) {
 
         computed.add(classElement.getName());
         final Iterator<ClassElement> i = typeArgs.values().iterator();
@@ -2798,7 +2920,7 @@ public final class SchemaDefinitionUtils {
                     ce = customElement;
                 }
                 if (!computed.contains(ce.getName())) {
-                    computeNameWithGenerics(ce, builder, computed, ceTypeArgs, context, isProtobufGenerated);
+                    computeNameWithGenerics(ce, builder, computed, ceTypeArgs, context, isProtobufGenerated, genericSeparator, innerClassSeparator);
                 } else if (CollectionUtils.isNotEmpty(ceTypeArgs)) {
                     ce = ceTypeArgs.values().iterator().next();
                     className = ce.getSimpleName();
@@ -2998,4 +3120,8 @@ public final class SchemaDefinitionUtils {
     public static Map<String, String> getSchemaNameToClassNameMap() {
         return schemaNameToClassNameMap;
     }
+
+    public static Map<String, String> getJsonViewSchemaNameToClassNameMap() {
+        return jsonViewSchemaNameToClassNameMap;
+    }
 }
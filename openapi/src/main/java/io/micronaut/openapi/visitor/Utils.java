@@ -383,6 +383,7 @@ public final class Utils {
         creatorConstructorsCache = new HashMap<>();
         System.clearProperty(BIND_TYPE_AND_TYPES);
         SchemaDefinitionUtils.clean();
+        ElementUtils.clean();
         OpenApiExtraSchemaVisitor.clean();
     }
 }
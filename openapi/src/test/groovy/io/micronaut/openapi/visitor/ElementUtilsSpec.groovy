@@ -0,0 +1,49 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import io.swagger.v3.oas.annotations.media.Schema
+
+class ElementUtilsSpec extends AbstractOpenApiTypeElementSpec {
+
+    void "test resolved annotations of member element are cached until clean"() {
+
+        given:
+        def classElement = buildClassElement('test.Pet', '''
+package test;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+class Pet {
+
+    @Deprecated
+    public final String name;
+
+    @JsonCreator
+    Pet(@Schema(description = "pet name") String name) {
+        this.name = name;
+    }
+}
+''')
+        def field = classElement.fields.find { it.name == 'name' }
+        def constructorParam = classElement.primaryConstructor.get().parameters.find { it.name == 'name' }
+
+        when:
+        ElementUtils.clean()
+        def schema = ElementUtils.findAnnotation(field, Schema.name)
+
+        then: "the result is the same as without cache"
+        !field.findAnnotation(Schema.name).isPresent()
+        schema.get() == constructorParam.findAnnotation(Schema.name).get()
+        ElementUtils.isAnnotationPresent(field, Deprecated.name) == field.isAnnotationPresent(Deprecated.name)
+        ElementUtils.isAnnotationPresent(field, Schema.name)
+        ElementUtils.hasResolvedAnnotations(field)
+
+        when:
+        ElementUtils.clean()
+
+        then:
+        !ElementUtils.hasResolvedAnnotations(field)
+        ElementUtils.findAnnotation(field, Schema.name).get() == schema.get()
+    }
+}
@@ -1,6 +1,18 @@
 package io.micronaut.openapi.visitor
 
 import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
+import io.micronaut.inject.visitor.VisitorContext
+import io.micronaut.openapi.visitor.group.OpenApiInfo
+import io.swagger.v3.oas.models.Components
+import io.swagger.v3.oas.models.OpenAPI
+import io.swagger.v3.oas.models.Operation
+import io.swagger.v3.oas.models.PathItem
+import io.swagger.v3.oas.models.Paths
+import io.swagger.v3.oas.models.info.Info
+import io.swagger.v3.oas.models.media.ObjectSchema
+import io.swagger.v3.oas.models.media.StringSchema
+import io.swagger.v3.oas.models.responses.ApiResponse
+import io.swagger.v3.oas.models.responses.ApiResponses
 
 import java.nio.file.Files
 import java.nio.file.Path
@@ -9,6 +21,7 @@ import java.nio.file.Paths
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_FILENAME
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ENABLED
 
 class OpenApiAdocModuleSpec extends AbstractTypeElementSpec {
@@ -136,4 +149,82 @@ class MyBean {}
         cleanup:
         System.clearProperty(MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH)
     }
+
+    void "test parallel ADoc conversion of several groups is the same as sequential"() {
+
+        given:
+        def sequentialDir = Files.createTempDirectory("adoc-sequential")
+        def parallelDir = Files.createTempDirectory("adoc-parallel")
+        def warnings = []
+        def context = Stub(VisitorContext) {
+            warn(_, _) >> { String message, element -> warnings << message }
+        }
+        // groups share schema object, so every group is converted in its own copy
+        def shared = new ObjectSchema().description("Shared **markdown** description")
+            .addProperty("name", new StringSchema().description("Name with `code`"))
+        def openApis = (1..3).collect { openApi(it, shared) }
+
+        when:
+        AdocModule.convert(adocGroups(openApis, sequentialDir, [:]), false, context)
+        AdocModule.convert(adocGroups(openApis, parallelDir, [:]), true, context)
+
+        then:
+        for (i in 1..3) {
+            def fileName = "swagger-${i}.adoc".toString()
+            assert Files.size(sequentialDir.resolve(fileName)) > 0
+            assert Files.readAllBytes(sequentialDir.resolve(fileName)) == Files.readAllBytes(parallelDir.resolve(fileName))
+        }
+        shared.description == "Shared **markdown** description"
+        !warnings.any { it.startsWith("Can't convert to ADoc format") }
+
+        cleanup:
+        sequentialDir.toFile().deleteDir()
+        parallelDir.toFile().deleteDir()
+    }
+
+    void "test failed group is reported by parallel ADoc conversion"() {
+
+        given:
+        def outputDir = Files.createTempDirectory("adoc-parallel")
+        def warnings = []
+        def context = Stub(VisitorContext) {
+            warn(_, _) >> { String message, element -> warnings << message }
+        }
+        def shared = new ObjectSchema().addProperty("name", new StringSchema())
+        def openApis = (1..3).collect { openApi(it, shared) }
+
+        when:
+        AdocModule.convert(adocGroups(openApis, outputDir, [2: [(MICRONAUT_OPENAPI_ADOC_TEMPLATE_FILENAME): "missing.ftl"]]), true, context)
+
+        then:
+        warnings.count { it.startsWith("Can't convert to ADoc format") } == 1
+        Files.exists(outputDir.resolve("swagger-1.adoc"))
+        !Files.exists(outputDir.resolve("swagger-2.adoc"))
+        Files.exists(outputDir.resolve("swagger-3.adoc"))
+
+        cleanup:
+        outputDir.toFile().deleteDir()
+    }
+
+    private static List<Pair<OpenApiInfo, Map<String, String>>> adocGroups(List<OpenAPI> openApis, Path outputDir, Map<Integer, Map<String, String>> extraProps) {
+        def groups = []
+        openApis.eachWithIndex { OpenAPI openApi, int index ->
+            def number = index + 1
+            Map<String, String> props = [(MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH): outputDir.toString()]
+            props.putAll(extraProps.getOrDefault(number, [:]))
+            groups << Pair.of(new OpenApiInfo("v" + number, "group" + number, null, "swagger-" + number + ".yml", true, null, openApi), props)
+        }
+        groups
+    }
+
+    private static OpenAPI openApi(int number, ObjectSchema shared) {
+        new OpenAPI()
+            .openapi("3.0.1")
+            .info(new Info().title("API " + number).version("1.0").description("API with **markdown** description"))
+            .paths(new Paths().addPathItem("/items" + number, new PathItem().get(new Operation()
+                .operationId("getItems" + number)
+                .description("Returns `items`")
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK"))))))
+            .components(new Components().addSchemas("Item", shared))
+    }
 }
@@ -0,0 +1,120 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import io.swagger.v3.oas.models.OpenAPI
+import io.swagger.v3.oas.models.Operation
+
+class OpenApiAnnotationBindingSpec extends AbstractOpenApiTypeElementSpec {
+
+    void "test bind @Operation with single nested response"() {
+        given:
+        buildBeanDefinition('test.MyBean', '''
+
+package test;
+
+import io.swagger.v3.oas.annotations.*;
+import io.swagger.v3.oas.annotations.responses.*;
+import io.swagger.v3.oas.annotations.media.*;
+import io.swagger.v3.oas.annotations.links.*;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.micronaut.http.annotation.*;
+
+@Controller("/")
+class MyController {
+
+    @Get("/pet")
+    @Operation(summary = "Get pet",
+        description = "Get pet description",
+        tags = "pets",
+        responses = @ApiResponse(responseCode = "200", description = "Pet found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = Pet.class)),
+            headers = @Header(name = "X-Rate-Limit", description = "Rate limit", schema = @Schema(implementation = Integer.class)),
+            links = @Link(name = "owner", operationId = "getOwner", parameters = @LinkParameter(name = "petId", expression = "$response.body#/id"))
+        )
+    )
+    public Pet getPet() {
+        return null;
+    }
+}
+
+class Pet {
+    public Long id;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+
+        OpenAPI openAPI = Utils.testReference
+        Operation operation = openAPI.paths?.get("/pet")?.get
+
+        expect:
+        operation
+        operation.summary == 'Get pet'
+        operation.description == 'Get pet description'
+        operation.tags == ['pets']
+        operation.responses.size() == 1
+        operation.responses['200'].description == 'Pet found'
+        operation.responses['200'].content['application/json'].schema.$ref == '#/components/schemas/Pet'
+        operation.responses['200'].headers.size() == 1
+        operation.responses['200'].headers['X-Rate-Limit'].description == 'Rate limit'
+        operation.responses['200'].headers['X-Rate-Limit'].schema.type == 'integer'
+        operation.responses['200'].links.size() == 1
+        operation.responses['200'].links.owner.operationId == 'getOwner'
+        operation.responses['200'].links.owner.parameters['petId'] == '$response.body#/id'
+    }
+
+    void "test bind @ApiResponse with nested content, headers and links"() {
+        given:
+        buildBeanDefinition('test.MyBean', '''
+
+package test;
+
+import io.swagger.v3.oas.annotations.responses.*;
+import io.swagger.v3.oas.annotations.media.*;
+import io.swagger.v3.oas.annotations.links.*;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.micronaut.http.annotation.*;
+
+@Controller("/")
+class MyController {
+
+    @Get("/pet")
+    @ApiResponse(responseCode = "200", description = "Pet found",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = Pet.class)),
+        headers = {
+            @Header(name = "X-Rate-Limit", description = "Rate limit", schema = @Schema(implementation = Integer.class)),
+            @Header(name = "X-Request-Id", description = "Request id", schema = @Schema(implementation = String.class))
+        },
+        links = @Link(name = "owner", operationId = "getOwner")
+    )
+    @ApiResponse(responseCode = "404", description = "Pet not found")
+    public Pet getPet() {
+        return null;
+    }
+}
+
+class Pet {
+    public Long id;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+
+        OpenAPI openAPI = Utils.testReference
+        Operation operation = openAPI.paths?.get("/pet")?.get
+
+        expect:
+        operation
+        operation.responses.size() == 2
+        operation.responses['200'].description == 'Pet found'
+        operation.responses['200'].content['application/json'].schema.$ref == '#/components/schemas/Pet'
+        operation.responses['200'].headers.size() == 2
+        operation.responses['200'].headers['X-Rate-Limit'].schema.type == 'integer'
+        operation.responses['200'].headers['X-Request-Id'].description == 'Request id'
+        operation.responses['200'].links.owner.operationId == 'getOwner'
+        operation.responses['404'].description == 'Pet not found'
+        !operation.responses['404'].content
+    }
+}
@@ -311,4 +311,235 @@ class MyBean {}
         System.clearProperty(OpenApiConfigProperty.MICRONAUT_JACKSON_JSON_VIEW_ENABLED)
         System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_VIEW_DEFAULT_INCLUSION)
     }
+
+    void "test merge identical JsonView schemas"() {
+
+        setup:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_JACKSON_JSON_VIEW_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_VIEW_MERGE_IDENTICAL, "true")
+
+        when:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import java.util.List;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+@Controller
+class OpenApiController {
+
+    @Get("/summary")
+    @JsonView(View.Summary.class)
+    public Car getSummary() {
+        return null;
+    }
+
+    @Get("/detail")
+    @JsonView(View.Detail.class)
+    public Car getDetail() {
+        return null;
+    }
+}
+
+interface View {
+
+    interface Summary {}
+
+    interface Detail extends Summary {}
+}
+
+class Car {
+
+    @JsonView(View.Summary.class)
+    public String made;
+    @JsonView(View.Summary.class)
+    public List<Tire> tires;
+}
+
+class Tire {
+
+    @JsonView(View.Summary.class)
+    public String made;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+        then: "the state is correct"
+        Utils.testReference != null
+
+        when: "The OpenAPI is retrieved"
+        OpenAPI openAPI = Utils.testReference
+        Schema carSummary = openAPI.components.schemas['Car_Summary']
+        Schema tireSummary = openAPI.components.schemas['Tire_Summary']
+
+        then: "schemas of the first view are kept"
+
+        openAPI.components.schemas.size() == 2
+        !openAPI.components.schemas['Car_Detail']
+        !openAPI.components.schemas['Tire_Detail']
+
+        openAPI.paths."/summary".get.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/Car_Summary'
+        openAPI.paths."/detail".get.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/Car_Summary'
+
+        carSummary
+        carSummary.properties.size() == 2
+        carSummary.properties.made
+        carSummary.properties.tires.items.$ref == '#/components/schemas/Tire_Summary'
+
+        tireSummary
+        tireSummary.properties.size() == 1
+        tireSummary.properties.made
+
+        cleanup:
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_JACKSON_JSON_VIEW_ENABLED)
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_VIEW_MERGE_IDENTICAL)
+    }
+
+    void "test merge of identical JsonView schemas changes only schema references"() {
+
+        setup:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_JACKSON_JSON_VIEW_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_VIEW_MERGE_IDENTICAL, "true")
+
+        when:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import java.util.List;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+@Controller
+class OpenApiController {
+
+    @Get("/summary")
+    @JsonView(View.Summary.class)
+    public Car getSummary() {
+        return null;
+    }
+
+    @Get("/detail")
+    @JsonView(View.Detail.class)
+    public Car getDetail() {
+        return null;
+    }
+}
+
+interface View {
+
+    interface Summary {}
+
+    interface Detail extends Summary {}
+}
+
+class Car {
+
+    @JsonView(View.Summary.class)
+    @Schema(description = "#/components/schemas/Tire_Detail", example = "#/components/schemas/Tire_Detail")
+    public String made;
+    @JsonView(View.Summary.class)
+    public List<Tire> tires;
+}
+
+class Tire {
+
+    @JsonView(View.Summary.class)
+    public String made;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+        OpenAPI openAPI = Utils.testReference
+        Schema carSummary = openAPI.components.schemas['Car_Summary']
+
+        then:
+        openAPI.components.schemas.size() == 2
+        !openAPI.components.schemas['Tire_Detail']
+        carSummary.properties.tires.items.$ref == '#/components/schemas/Tire_Summary'
+        carSummary.properties.made.description == '#/components/schemas/Tire_Detail'
+        carSummary.properties.made.example == '#/components/schemas/Tire_Detail'
+
+        cleanup:
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_JACKSON_JSON_VIEW_ENABLED)
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_VIEW_MERGE_IDENTICAL)
+    }
+
+    void "test identical JsonView schemas are not merged by default"() {
+
+        setup:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_JACKSON_JSON_VIEW_ENABLED, "true")
+
+        when:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import java.util.List;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+@Controller
+class OpenApiController {
+
+    @Get("/summary")
+    @JsonView(View.Summary.class)
+    public Car getSummary() {
+        return null;
+    }
+
+    @Get("/detail")
+    @JsonView(View.Detail.class)
+    public Car getDetail() {
+        return null;
+    }
+}
+
+interface View {
+
+    interface Summary {}
+
+    interface Detail extends Summary {}
+}
+
+class Car {
+
+    @JsonView(View.Summary.class)
+    public String made;
+    @JsonView(View.Summary.class)
+    public List<Tire> tires;
+}
+
+class Tire {
+
+    @JsonView(View.Summary.class)
+    public String made;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+        OpenAPI openAPI = Utils.testReference
+
+        then:
+        openAPI.components.schemas.size() == 4
+        openAPI.components.schemas['Car_Summary']
+        openAPI.components.schemas['Car_Detail']
+        openAPI.paths."/summary".get.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/Car_Summary'
+        openAPI.paths."/detail".get.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/Car_Detail'
+
+        cleanup:
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_JACKSON_JSON_VIEW_ENABLED)
+    }
 }
@@ -127,4 +127,87 @@ class MyBean {}
         cleanup:
         System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES)
     }
+
+    @RestoreSystemProperties
+    void "test unchanged additional OpenAPI files are read from persisted cache"() {
+        given:
+        File additionalSwaggerFilesDir = File.createTempDir()
+        File petstore = new File(additionalSwaggerFilesDir, "petstore.yml")
+        petstore.text = new File("src/test/resources/swagger/petstore.yml").text
+        File cacheFile = new File(File.createTempDir(), "additional-files-cache.json")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES, additionalSwaggerFilesDir.absolutePath)
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES_CACHE, cacheFile.absolutePath)
+
+        when:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import io.swagger.v3.oas.annotations.*;
+import io.swagger.v3.oas.annotations.info.*;
+
+@OpenAPIDefinition(info = @Info(title = "the title", version = "0.0"))
+class Application {
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+        OpenAPI openAPI = Utils.testReference
+
+        then:
+        cacheFile.exists()
+        openAPI.paths.get("/pets").get.summary == "List all pets"
+
+        when: "file content is changed, but size and last modified time are the same"
+        long lastModified = petstore.lastModified()
+        petstore.text = petstore.text.replace("List all pets", "List ALL pets")
+        petstore.setLastModified(lastModified)
+        Utils.clean()
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import io.swagger.v3.oas.annotations.*;
+import io.swagger.v3.oas.annotations.info.*;
+
+@OpenAPIDefinition(info = @Info(title = "the title", version = "0.0"))
+class Application {
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+        openAPI = Utils.testReference
+
+        then: "unchanged file is not read again"
+        openAPI.paths.get("/pets").get.summary == "List all pets"
+
+        when: "file is modified"
+        petstore.setLastModified(lastModified + 2000)
+        Utils.clean()
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import io.swagger.v3.oas.annotations.*;
+import io.swagger.v3.oas.annotations.info.*;
+
+@OpenAPIDefinition(info = @Info(title = "the title", version = "0.0"))
+class Application {
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+        openAPI = Utils.testReference
+
+        then: "modified file is read again"
+        openAPI.paths.get("/pets").get.summary == "List ALL pets"
+        openAPI.paths.size() == 2
+        openAPI.components.schemas.size() == 3
+
+        cleanup:
+        additionalSwaggerFilesDir.deleteDir()
+        cacheFile.parentFile.deleteDir()
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES)
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES_CACHE)
+    }
 }
@@ -1135,4 +1135,75 @@ class MyBean {}
         schema.properties.withInnerClass.allOf[0].$ref == "#/components/schemas/GenObject<<<List<<<PubGenObject<<<PubGenObject&&&ListInnerItem<<<<<<<<<"
         schema.properties.withInnerClass.allOf[1].maxItems == 10
     }
+
+    void "test generic schema names are stable for repeated type arguments"() {
+        given:
+        buildBeanDefinition('test.MyBean', '''
+
+package test;
+
+import io.micronaut.http.annotation.*;
+import java.util.List;
+
+@Controller("/")
+class MyController {
+
+    @Get("/pet")
+    public Response<Pet> getPet() {
+        return null;
+    }
+
+    @Get("/pets")
+    public Response<List<Pet>> getPets() {
+        return null;
+    }
+
+    @Put("/pet")
+    public Response<Pet> updatePet(@Body Response<Pet> pet) {
+        return null;
+    }
+
+    @Get("/name")
+    public Response<String> getName() {
+        return null;
+    }
+
+    @Put("/pets")
+    public Response<List<Pet>> updatePets(@Body Response<List<Pet>> pets) {
+        return null;
+    }
+}
+
+class Pet {
+    public int age;
+}
+
+class Response<T> {
+    T r;
+    public T getResult() {
+        return r;
+    }
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+
+        OpenAPI openAPI = Utils.testReference
+        def schemas = openAPI.components.schemas
+
+        expect:
+        schemas.keySet().findAll { it.startsWith('Response') } as Set == ['Response_Pet_', 'Response_List_Pet__', 'Response_String_'] as Set
+        schemas['Response_Pet_'].properties['result'].$ref == '#/components/schemas/Pet'
+        schemas['Response_List_Pet__'].properties['result'].items.$ref == '#/components/schemas/Pet'
+        schemas['Response_String_'].properties['result'].type == 'string'
+        openAPI.paths['/pet'].get.responses['200'].content['application/json'].schema.$ref == '#/components/schemas/Response_Pet_'
+        openAPI.paths['/pet'].put.responses['200'].content['application/json'].schema.$ref == '#/components/schemas/Response_Pet_'
+        openAPI.paths['/pet'].put.requestBody.content['application/json'].schema.$ref == '#/components/schemas/Response_Pet_'
+        openAPI.paths['/pets'].get.responses['200'].content['application/json'].schema.$ref == '#/components/schemas/Response_List_Pet__'
+        openAPI.paths['/pets'].put.requestBody.content['application/json'].schema.$ref == '#/components/schemas/Response_List_Pet__'
+
+        and: "repeated types are resolved from cache"
+        SchemaDefinitionUtils.fullClassNameWithGenericsCacheHits > 0
+    }
 }